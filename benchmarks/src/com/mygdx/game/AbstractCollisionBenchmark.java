@@ -0,0 +1,58 @@
+package com.mygdx.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//CollisionSystem with as many player lasers as enemies; subclasses pick the path and sizes
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class AbstractCollisionBenchmark {
+
+    private GameWorld world;
+    private LaserStore initialPlayerLasers;
+
+    abstract int entityCount();
+
+    abstract boolean useSpatialHash();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkWorlds.SEED);
+        int entityCount = entityCount();
+        world = BenchmarkWorlds.withEnemies(entityCount, random);
+        world.collisionSystem.useSpatialHash = useSpatialHash();
+        initialPlayerLasers = new LaserStore(entityCount, 1, null);
+        BenchmarkWorlds.fillLasers(initialPlayerLasers, entityCount, random);
+    }
+
+    //hits remove lasers and wear down shields; restore both so every call does the same work
+    @Setup(Level.Invocation)
+    public void restoreWorld() {
+        BenchmarkWorlds.copyLasers(initialPlayerLasers, world.playerLaserList);
+        for (int i = 0; i < world.enemyShips.size(); i++) {
+            Mappers.shield.get(world.enemyShips.get(i)).shield = Integer.MAX_VALUE;
+        }
+    }
+
+    @Benchmark
+    public int detectCollisions() {
+        world.collisionSystem.update(GameWorld.SIMULATION_TICK);
+        return world.playerLaserList.size;
+    }
+}
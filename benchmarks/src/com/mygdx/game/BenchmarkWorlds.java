@@ -0,0 +1,80 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+
+import java.util.Random;
+
+//builds headless worlds filled with a fixed, seeded population of enemies and lasers
+final class BenchmarkWorlds {
+
+    static final long SEED = 42;
+
+    //stands in for atlas regions, the render queue only needs something to sort by
+    static final TextureRegion REGION = new TextureRegion();
+
+    //the default enemy, as in WaveSchedule.classic
+    static final ShipStats FIGHTER = new ShipStats();
+
+    private BenchmarkWorlds() {
+    }
+
+    static GameWorld withEnemies(int enemyCount, Random random) {
+        GameWorld world = new GameWorld();
+        world.playerLaserList.textureRegion = REGION;
+        world.enemyLaserList.textureRegion = REGION;
+        SpriteComponent playerSprite = Mappers.sprite.get(world.playerShip);
+        playerSprite.shipTextureRegion = playerSprite.shieldTextureRegion = REGION;
+        for (int i = 0; i < enemyCount; i++) {
+            addEnemy(world, random);
+        }
+        return world;
+    }
+
+    //enemies in the upper half of the screen, where EnemyMovementSystem keeps them
+    static Entity addEnemy(GameWorld world, Random random) {
+        Entity enemyShip = world.createEnemyShip(
+                random.nextFloat() * (GameWorld.WORLD_WIDHTH - 10) + 5,
+                GameWorld.WORLD_HEIGHT / 2f + 5 + random.nextFloat() * (GameWorld.WORLD_HEIGHT / 2f - 10),
+                FIGHTER, random.nextLong());
+        //spread the timers so not every ship fires or turns on the same tick
+        WeaponComponent weapon = Mappers.weapon.get(enemyShip);
+        world.weaponSystem.scheduleShot(enemyShip, random.nextFloat() * weapon.timeBetweenShots);
+        SpriteComponent sprite = Mappers.sprite.get(enemyShip);
+        sprite.shipTextureRegion = sprite.shieldTextureRegion = REGION;
+        VelocityComponent velocity = Mappers.velocity.get(enemyShip);
+        world.enemyMovementSystem.scheduleDirectionChange(enemyShip, random.nextFloat() * velocity.directionChangeFrequency);
+        return enemyShip;
+    }
+
+    //the game camera looking at the whole world
+    static Camera worldCamera() {
+        //the frustum update goes through native matrix code
+        GdxNativesLoader.load();
+        OrthographicCamera camera = new OrthographicCamera(GameWorld.WORLD_WIDHTH, GameWorld.WORLD_HEIGHT);
+        camera.position.set(GameWorld.WORLD_WIDHTH / 2f, GameWorld.WORLD_HEIGHT / 2f, 0);
+        camera.update();
+        return camera;
+    }
+
+    //lasers spread over the whole screen
+    static void fillLasers(LaserStore lasers, int laserCount, Random random) {
+        lasers.clear();
+        for (int i = 0; i < laserCount; i++) {
+            lasers.add(random.nextFloat() * GameWorld.WORLD_WIDHTH,
+                    random.nextFloat() * GameWorld.WORLD_HEIGHT,
+                    0.4f, 4, 45);
+        }
+    }
+
+    static void copyLasers(LaserStore from, LaserStore to) {
+        to.clear();
+        for (int i = 0; i < from.size; i++) {
+            to.add(from.x[i] + from.width[i] / 2, from.y[i],
+                    from.width[i], from.height[i], from.movementSpeed[i]);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mygdx.game;
+
+import org.openjdk.jmh.annotations.Param;
+
+//the nested-loop path for comparison; stops at 10k because 100k x 100k pairs take minutes per call
+public class BruteForceCollisionBenchmark extends AbstractCollisionBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    int entityCount;
+
+    @Override
+    int entityCount() {
+        return entityCount;
+    }
+
+    @Override
+    boolean useSpatialHash() {
+        return false;
+    }
+}
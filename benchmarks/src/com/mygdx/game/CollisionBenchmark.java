@@ -0,0 +1,20 @@
+package com.mygdx.game;
+
+import org.openjdk.jmh.annotations.Param;
+
+//collisions through the spatial hash broadphase
+public class CollisionBenchmark extends AbstractCollisionBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    int entityCount;
+
+    @Override
+    int entityCount() {
+        return entityCount;
+    }
+
+    @Override
+    boolean useSpatialHash() {
+        return true;
+    }
+}
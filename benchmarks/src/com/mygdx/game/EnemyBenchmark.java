@@ -0,0 +1,58 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.Camera;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//one simulation tick of EnemyMovementSystem on the benchmark thread, plus the ship draw pass through the render queue
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnemyBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    int entityCount;
+
+    private GameWorld world;
+    private NullBatch batch;
+    private final RenderQueue renderQueue = new RenderQueue(256);
+    private Camera camera;
+
+    @Setup
+    public void setUp() {
+        Launcher.random.setSeed(BenchmarkWorlds.SEED);
+        world = BenchmarkWorlds.withEnemies(entityCount, new Random(BenchmarkWorlds.SEED));
+        world.enemyMovementSystem.pool = null;
+        batch = new NullBatch();
+        camera = BenchmarkWorlds.worldCamera();
+    }
+
+    @Benchmark
+    public float enemyMovement() {
+        world.enemyMovementSystem.update(GameWorld.SIMULATION_TICK);
+        return Mappers.transform.get(world.enemyShips.get(0)).boundingBox.x;
+    }
+
+    @Benchmark
+    public long drawShips() {
+        renderQueue.begin(camera);
+        world.renderSystem.submitShips(renderQueue, 0.5f);
+        renderQueue.flush(batch);
+        return batch.drawCalls;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.Camera;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//the laser phase of a tick (due timers fire, then LaserSystem moves and culls) and the laser draw pass through the render queue
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaserBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    int entityCount;
+
+    private GameWorld world;
+    private LaserStore initialEnemyLasers;
+    private NullBatch batch;
+    private final RenderQueue renderQueue = new RenderQueue(256);
+    private Camera camera;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(BenchmarkWorlds.SEED);
+        Launcher.random.setSeed(BenchmarkWorlds.SEED);
+        world = BenchmarkWorlds.withEnemies(entityCount, random);
+        initialEnemyLasers = new LaserStore(entityCount, -1, null);
+        BenchmarkWorlds.fillLasers(initialEnemyLasers, entityCount, random);
+        batch = new NullBatch();
+        camera = BenchmarkWorlds.worldCamera();
+    }
+
+    //lasers leave the screen and ships fire, so every call starts from the same population
+    @Setup(Level.Invocation)
+    public void restoreLasers() {
+        BenchmarkWorlds.copyLasers(initialEnemyLasers, world.enemyLaserList);
+        world.playerLaserList.clear();
+    }
+
+    @Benchmark
+    public int updateLasers() {
+        world.timerSystem.update(GameWorld.SIMULATION_TICK);
+        world.laserSystem.update(GameWorld.SIMULATION_TICK);
+        return world.enemyLaserList.size;
+    }
+
+    @Benchmark
+    public long drawLasers() {
+        renderQueue.begin(camera);
+        world.enemyLaserList.submit(renderQueue, 0.5f);
+        renderQueue.flush(batch);
+        return batch.drawCalls;
+    }
+}
@@ -0,0 +1,55 @@
+package com.mygdx.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+//EnemyMovementSystem against the number of fork-join workers, 0 runs it on the benchmark thread
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelEnemyBenchmark {
+
+    @Param({"10000", "100000"})
+    int entityCount;
+
+    @Param({"0", "1", "2", "4", "8"})
+    int threads;
+
+    private GameWorld world;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        world = BenchmarkWorlds.withEnemies(entityCount, new Random(BenchmarkWorlds.SEED));
+        pool = threads > 0 ? new ForkJoinPool(threads) : null;
+        world.enemyMovementSystem.pool = pool;
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    @Benchmark
+    public float updateEnemies() {
+        world.enemyMovementSystem.update(GameWorld.SIMULATION_TICK);
+        return Mappers.transform.get(world.enemyShips.get(0)).boundingBox.x;
+    }
+}
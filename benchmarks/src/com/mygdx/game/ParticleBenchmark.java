@@ -0,0 +1,75 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+//the particle phase of a tick (emitters fire, sparks age, die and move) and the spark draw pass,
+//with a steady population of live particles
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParticleBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    int particleCount;
+
+    private GameWorld world;
+    private NullBatch batch;
+    private final RenderQueue renderQueue = new RenderQueue(256);
+    private Camera camera;
+    private final Rectangle explosionBox = new Rectangle(31, 64, 10, 10);
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Launcher.random.setSeed(BenchmarkWorlds.SEED);
+        world = new GameWorld();
+        //the spark regions only need a texture to sort by
+        world.particleSystem.sparkRegions = new TextureRegion[ParticleSystem.SPARK_FRAMES];
+        Arrays.fill(world.particleSystem.sparkRegions, BenchmarkWorlds.REGION);
+        batch = new NullBatch();
+        camera = BenchmarkWorlds.worldCamera();
+    }
+
+    //explosions until the buffer holds the population, every call starts from the same one
+    @Setup(Level.Invocation)
+    public void restoreParticles() {
+        world.particleSystem.clear();
+        while (world.particleSystem.particles.count < particleCount) {
+            world.particleSystem.emitExplosion(explosionBox, 0.7f);
+            world.particleSystem.update(GameWorld.SIMULATION_TICK);
+        }
+    }
+
+    @Benchmark
+    public int updateParticles() {
+        world.particleSystem.update(GameWorld.SIMULATION_TICK);
+        return world.particleSystem.particles.count;
+    }
+
+    @Benchmark
+    public long drawParticles() {
+        renderQueue.begin(camera);
+        world.particleSystem.submit(renderQueue, 0.5f);
+        renderQueue.flush(batch);
+        return batch.drawCalls;
+    }
+}
@@ -0,0 +1,44 @@
+package com.mygdx.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//one tick of the timer wheel: shots and direction changes that are due, nothing for the ships that are waiting
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TimerBenchmark {
+
+    @Param({"10", "1000", "10000", "100000"})
+    int entityCount;
+
+    private GameWorld world;
+
+    @Setup
+    public void setUp() {
+        world = BenchmarkWorlds.withEnemies(entityCount, new Random(BenchmarkWorlds.SEED));
+    }
+
+    @Benchmark
+    public int advanceTimers() {
+        world.timerSystem.update(GameWorld.SIMULATION_TICK);
+        //the lasers fired would pile up otherwise
+        world.enemyLaserList.clear();
+        return world.timerSystem.getPending();
+    }
+}
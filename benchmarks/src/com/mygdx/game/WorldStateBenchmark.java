@@ -0,0 +1,57 @@
+package com.mygdx.game;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+//writing a whole world into a state buffer and restoring it, with the lasers of a second of fighting;
+//restoring goes back into the same world, as a rewind does
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldStateBenchmark {
+
+    @Param({"1000", "10000"})
+    int enemyCount;
+
+    private GameWorld world;
+    private final WorldSerializer serializer = new WorldSerializer();
+    private ByteBuffer state;
+
+    @Setup
+    public void setUp() {
+        Launcher.random.setSeed(BenchmarkWorlds.SEED);
+        world = BenchmarkWorlds.withEnemies(enemyCount, new Random(BenchmarkWorlds.SEED));
+        PlayerInput input = new PlayerInput();
+        for (int i = 0; i < 120; i++) {
+            world.update(GameWorld.SIMULATION_TICK, input);
+        }
+        state = serializer.write(world, null);
+    }
+
+    @Benchmark
+    public ByteBuffer write() {
+        return state = serializer.write(world, state);
+    }
+
+    @Benchmark
+    public long restore() {
+        serializer.read(state, world);
+        return world.getTickCount();
+    }
+}
@@ -0,0 +1,112 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+//every asset the game needs, loaded through an AssetManager so decoding happens off the GL thread
+class Assets implements Disposable {
+
+    static final String TEXTURE_ATLAS = "SpaceShooter.atlas";
+    static final String HUD_FONT = "EdgeOfTheGalaxyRegular-OVEa6.otf";
+    static final String FONT_CACHE_DIRECTORY = "fontcache";
+
+    private final AssetManager manager;
+    private final FontCache fontCache;
+    private String hudFontFileName;
+    private BitmapFont generatedHudFont; //only when the font could not be baked
+    private WaveSchedule waveSchedule;
+
+    Assets() {
+        //baked fonts are written at run time, so they live in local storage, everything else is internal
+        manager = new AssetManager(new FileHandleResolver() {
+            @Override
+            public FileHandle resolve(String fileName) {
+                return fileName.startsWith(FONT_CACHE_DIRECTORY + "/")
+                        ? Gdx.files.local(fileName) : Gdx.files.internal(fileName);
+            }
+        });
+        fontCache = new FontCache(Gdx.files.local(FONT_CACHE_DIRECTORY));
+    }
+
+    //queues everything; the first launch also bakes the font here, since FreeType needs the GL thread
+    public void queue() {
+        manager.load(TEXTURE_ATLAS, TextureAtlas.class);
+
+        //a few hundred bytes of json, read right away
+        FileHandle wavesFile = Gdx.files.internal(WaveSchedule.FILE_NAME);
+        waveSchedule = wavesFile.exists() ? WaveSchedule.load(wavesFile) : WaveSchedule.classic();
+
+        FileHandle fontFile = Gdx.files.internal(HUD_FONT);
+        FreeTypeFontGenerator.FreeTypeFontParameter fontParameter = hudFontParameter();
+        FileHandle fntFile = fontCache.getFntFile(fontFile, fontParameter);
+        try {
+            if (!fontCache.isBaked(fntFile)) {
+                fontCache.bake(fontFile, fontParameter, fntFile);
+            }
+            hudFontFileName = FONT_CACHE_DIRECTORY + "/" + fntFile.name();
+            manager.load(hudFontFileName, BitmapFont.class);
+        } catch (GdxRuntimeException e) {
+            //e.g. read-only storage; fall back to generating on every launch
+            Gdx.app.error("Assets", "could not bake " + HUD_FONT + ", generating it directly", e);
+            FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+            try {
+                generatedHudFont = generator.generateFont(fontParameter);
+            } finally {
+                generator.dispose();
+            }
+        }
+    }
+
+    //loads for at most the given time, returns true once everything is loaded
+    public boolean update(int millis) {
+        return manager.update(millis);
+    }
+
+    public float getProgress() {
+        return manager.getProgress();
+    }
+
+    public TextureAtlas getTextureAtlas() {
+        return manager.get(TEXTURE_ATLAS, TextureAtlas.class);
+    }
+
+    public BitmapFont getHudFont() {
+        return generatedHudFont != null ? generatedHudFont : manager.get(hudFontFileName, BitmapFont.class);
+    }
+
+    //texture memory of everything loaded, valid once update has returned true
+    long estimateBytes() {
+        return ResourceRegistry.atlasBytes(getTextureAtlas())
+                + ResourceRegistry.fontBytes(getHudFont());
+    }
+
+    public WaveSchedule getWaveSchedule() {
+        return waveSchedule;
+    }
+
+    private FreeTypeFontGenerator.FreeTypeFontParameter hudFontParameter() {
+        FreeTypeFontGenerator.FreeTypeFontParameter fontParameter =
+                new FreeTypeFontGenerator.FreeTypeFontParameter();
+        fontParameter.size = 72;
+        fontParameter.borderWidth = 3.6f;
+        fontParameter.color = new Color(1,1,1,0.3f);
+        fontParameter.borderColor = new Color(0,0,0,0.3f);
+        return fontParameter;
+    }
+
+    @Override
+    public void dispose() {
+        manager.dispose();
+        if (generatedHudFont != null) {
+            generatedHudFont.dispose();
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+//parallax layers composited in one full-screen quad; each layer scrolls by wrapping its texture coordinates
+//inside its atlas region, so fill cost stays at one quad however many layers are configured
+class BackgroundRenderer implements Disposable {
+
+    static final int MAX_LAYERS = 8;
+
+    private static final String VERTEX_SHADER = ""
+            + "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "uniform mat4 u_projTrans;\n"
+            + "varying vec2 v_texCoords;\n"
+            + "void main() {\n"
+            + "    v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n"
+            + "    gl_Position = u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n"
+            + "}\n";
+
+    //layers are blended bottom to top the way SpriteBatch would, in premultiplied form until the end;
+    //regions need highp, the atlas is wider than mediump can address to the texel
+    private static final String FRAGMENT_SHADER = ""
+            + "#ifdef GL_ES\n"
+            + "#ifdef GL_FRAGMENT_PRECISION_HIGH\n"
+            + "precision highp float;\n"
+            + "#else\n"
+            + "precision mediump float;\n"
+            + "#endif\n"
+            + "#endif\n"
+            + "#define MAX_LAYERS " + MAX_LAYERS + "\n"
+            + "varying vec2 v_texCoords;\n"
+            + "uniform sampler2D u_texture;\n"
+            + "uniform vec4 u_regions[MAX_LAYERS];\n"
+            + "uniform float u_scroll[MAX_LAYERS];\n"
+            + "uniform int u_layerCount;\n"
+            + "void main() {\n"
+            + "    vec3 color = vec3(0.0);\n"
+            + "    float alpha = 0.0;\n"
+            + "    for (int i = 0; i < MAX_LAYERS; i++) {\n"
+            + "        if (i >= u_layerCount) break;\n"
+            + "        vec4 region = u_regions[i];\n"
+            + "        vec2 uv = vec2(mix(region.x, region.z, v_texCoords.x),\n"
+            + "                mix(region.w, region.y, fract(v_texCoords.y + u_scroll[i])));\n"
+            + "        vec4 layer = texture2D(u_texture, uv);\n"
+            + "        color = layer.rgb * layer.a + color * (1.0 - layer.a);\n"
+            + "        alpha = layer.a + alpha * (1.0 - layer.a);\n"
+            + "    }\n"
+            + "    gl_FragColor = vec4(color / max(alpha, 0.0001), alpha);\n"
+            + "}\n";
+
+    private final TextureRegion[] layers;
+    private final Texture texture;
+    private final float[] speeds; //world units per second
+    private final float[] offsets; //world units, kept within 0..worldHeight
+    private final float[] scroll; //offsets as fractions of the screen, for the shader
+    private final float[] regions; //u, v, u2, v2 per layer
+    private final float worldWidth, worldHeight;
+    private int layerCount;
+
+    private final ShaderProgram shader;
+
+    BackgroundRenderer(TextureRegion[] layers, float[] speeds, float worldWidth, float worldHeight) {
+        if (layers.length != speeds.length) {
+            throw new GdxRuntimeException("Every background layer needs a speed");
+        }
+        if (layers.length > MAX_LAYERS) {
+            throw new GdxRuntimeException("At most " + MAX_LAYERS + " background layers are supported");
+        }
+        this.layers = layers;
+        this.speeds = speeds;
+        this.worldWidth = worldWidth;
+        this.worldHeight = worldHeight;
+        layerCount = layers.length;
+        offsets = new float[layers.length];
+        scroll = new float[layers.length];
+
+        texture = layers[0].getTexture();
+        regions = new float[layers.length * 4];
+        for (int i = 0; i < layers.length; i++) {
+            if (layers[i].getTexture() != texture) {
+                throw new GdxRuntimeException("Background layers must share one texture");
+            }
+            regions[i*4] = layers[i].getU();
+            regions[i*4+1] = layers[i].getV();
+            regions[i*4+2] = layers[i].getU2();
+            regions[i*4+3] = layers[i].getV2();
+        }
+
+        ShaderProgram shader = new ShaderProgram(VERTEX_SHADER, FRAGMENT_SHADER);
+        if (!shader.isCompiled()) {
+            //fall back to two quads per layer
+            Gdx.app.error("BackgroundRenderer", "Shader did not compile, drawing layers separately: " + shader.getLog());
+            shader.dispose();
+            shader = null;
+        }
+        this.shader = shader;
+    }
+
+    //fewer layers drop the top ones first
+    void setLayerCount(int layerCount) {
+        this.layerCount = Math.max(1, Math.min(layerCount, layers.length));
+    }
+
+    int getLayerCount() {
+        return layerCount;
+    }
+
+    //purely visual, so it follows the frame time
+    void update(float deltaTime) {
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = (offsets[i] + deltaTime * speeds[i]) % worldHeight;
+            scroll[i] = offsets[i] / worldHeight;
+        }
+    }
+
+    void draw(SpriteBatch batch) {
+        if (shader == null) {
+            drawLayers(batch);
+            return;
+        }
+
+        batch.setShader(shader);
+        shader.setUniform4fv("u_regions", regions, 0, layerCount * 4);
+        shader.setUniform1fv("u_scroll", scroll, 0, layerCount);
+        shader.setUniformi("u_layerCount", layerCount);
+        //texture coordinates 0..1 over the screen, the shader maps them into each region
+        batch.draw(texture, 0, 0, worldWidth, worldHeight, 0, 0, 1, 1);
+        batch.setShader(null);
+    }
+
+    private void drawLayers(Batch batch) {
+        for (int i = 0; i < layerCount; i++) {
+            batch.draw(layers[i], 0, -offsets[i],
+                    worldWidth, worldHeight);
+            batch.draw(layers[i], 0,
+                    -offsets[i] + worldHeight,
+                    worldWidth, worldHeight);
+        }
+    }
+
+    @Override
+    public void dispose() {
+        if (shader != null) shader.dispose();
+    }
+}
@@ -0,0 +1,133 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
+
+//lasers against ships: shields, explosions, lives and scoring
+class CollisionSystem extends EntitySystem {
+
+    private final float COLLISION_CELL_SIZE = 8;
+
+    private final GameWorld world;
+    private ImmutableArray<Entity> enemyShips;
+    private ImmutableArray<Entity> playerShips;
+    private final Rectangle laserBoundingBox = new Rectangle();
+
+    //broadphase, switch off to verify hits against the brute-force path
+    boolean useSpatialHash = true;
+    private final SpatialHashGrid enemyShipGrid = new SpatialHashGrid(WORLD_WIDHTH, WORLD_HEIGHT, COLLISION_CELL_SIZE);
+    private final IntArray collisionCandidates = new IntArray();
+
+    CollisionSystem(GameWorld world, int priority) {
+        super(priority);
+        this.world = world;
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        enemyShips = engine.getEntitiesFor(Family.all(EnemyComponent.class, TransformComponent.class, ShieldComponent.class).get());
+        playerShips = engine.getEntitiesFor(Family.all(PlayerComponent.class, TransformComponent.class, ShieldComponent.class).get());
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        world.profiler.begin(FrameProfiler.COLLISIONS);
+        if (useSpatialHash) {
+            detectPlayerLaserCollisionsWithGrid();
+        }
+        else {
+            detectPlayerLaserCollisions();
+        }
+        detectEnemyLaserCollisions();
+        world.profiler.end(FrameProfiler.COLLISIONS);
+    }
+
+    //brute force: every player laser against every enemy ship
+    private void detectPlayerLaserCollisions() {
+        LaserStore playerLaserList = world.playerLaserList;
+        for (int i = 0; i < playerLaserList.size; i++) {
+            Rectangle laser = playerLaserList.getBoundingBox(i, laserBoundingBox);
+            for (int j = 0; j < enemyShips.size(); j++) {
+                Entity enemyShip = enemyShips.get(j);
+                //removal waits for the end of the system, destroyed ships stay in the family until then
+                if (enemyShip.isScheduledForRemoval()) continue;
+
+                if (Mappers.transform.get(enemyShip).boundingBox.overlaps(laser)) {
+                    hitEnemyShip(enemyShip);
+                    playerLaserList.removeIndex(i--);
+                    break;
+                }
+            }
+        }
+    }
+
+    //same hits as the brute-force path, but only ships sharing a grid cell with a laser are tested
+    private void detectPlayerLaserCollisionsWithGrid() {
+        enemyShipGrid.clear();
+        for (int j = 0; j < enemyShips.size(); j++) {
+            enemyShipGrid.insert(j, Mappers.transform.get(enemyShips.get(j)).boundingBox);
+        }
+
+        LaserStore playerLaserList = world.playerLaserList;
+        for (int i = 0; i < playerLaserList.size; i++) {
+            Rectangle laser = playerLaserList.getBoundingBox(i, laserBoundingBox);
+            enemyShipGrid.query(laser, collisionCandidates);
+
+            //the brute-force loop stops at the first overlapping ship in family order, so keep the lowest index
+            int hitIndex = -1;
+            for (int k = 0; k < collisionCandidates.size; k++) {
+                int j = collisionCandidates.get(k);
+                if ((hitIndex < 0 || j < hitIndex)
+                        && Mappers.transform.get(enemyShips.get(j)).boundingBox.overlaps(laser)) {
+                    hitIndex = j;
+                }
+            }
+
+            if (hitIndex >= 0) {
+                if (hitEnemyShip(enemyShips.get(hitIndex))) {
+                    enemyShipGrid.remove(hitIndex);
+                }
+                playerLaserList.removeIndex(i--);
+            }
+        }
+    }
+
+    private boolean hitEnemyShip(Entity enemyShip) {
+        if (!Mappers.shield.get(enemyShip).hitAndCheckDestroyed()) {
+            return false;
+        }
+        world.createExplosion(Mappers.transform.get(enemyShip).boundingBox, 0.7f);
+        getEngine().removeEntity(enemyShip);
+        world.score += 100;
+        return true;
+    }
+
+    private void detectEnemyLaserCollisions() {
+        LaserStore enemyLaserList = world.enemyLaserList;
+        for (int p = 0; p < playerShips.size(); p++) {
+            Entity playerShip = playerShips.get(p);
+            Rectangle boundingBox = Mappers.transform.get(playerShip).boundingBox;
+            ShieldComponent shield = Mappers.shield.get(playerShip);
+
+            for (int i = 0; i < enemyLaserList.size; i++) {
+                Rectangle laser = enemyLaserList.getBoundingBox(i, laserBoundingBox);
+                if (boundingBox.overlaps(laser)) {
+                    if (shield.hitAndCheckDestroyed()) {
+                        world.createExplosion(boundingBox, 1.6f);
+                        shield.shield = GameWorld.PLAYER_SHIELD;
+                        Mappers.player.get(playerShip).lives--;
+                    }
+                    enemyLaserList.removeIndex(i--);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+
+//marks ships that wander in the upper half and are shot by the player
+class EnemyComponent implements Component {
+}
@@ -0,0 +1,81 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
+
+//enemy movement within the upper half, split across a fork-join pool for large swarms;
+//direction changes arrive as CHANGE_DIRECTION timers on the simulation thread
+class EnemyMovementSystem extends IteratingSystem implements TimerWheel.Listener {
+
+    private final GameWorld world;
+
+    //null keeps the update on the calling thread
+    ForkJoinPool pool = EnemyUpdateTask.SHARED_POOL;
+
+    EnemyMovementSystem(GameWorld world, int priority) {
+        super(Family.all(EnemyComponent.class, TransformComponent.class, VelocityComponent.class).get(), priority);
+        this.world = world;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        world.profiler.begin(FrameProfiler.ENEMIES);
+        int size = getEntities().size();
+        if (pool != null && size >= EnemyUpdateTask.PARALLEL_THRESHOLD) {
+            pool.invoke(new EnemyUpdateTask(this, getEntities(), 0, size, deltaTime));
+        }
+        else {
+            super.update(deltaTime);
+        }
+        world.profiler.end(FrameProfiler.ENEMIES);
+    }
+
+    //touches only the entity's own transform, safe to call from the update workers
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+
+        transform.savePreviousPosition();
+
+        float leftLimit, rightLimit, upLimit, downLimit;
+        leftLimit = -transform.boundingBox.x;
+        rightLimit = WORLD_WIDHTH - transform.boundingBox.x - transform.boundingBox.width;
+        downLimit = (float)WORLD_HEIGHT/2-transform.boundingBox.y;
+        upLimit = WORLD_HEIGHT - transform.boundingBox.y - transform.boundingBox.height;
+
+        float xMove = velocity.direction.x *
+                velocity.movementSpeed * deltaTime;
+        float yMove = velocity.direction.y *
+                velocity.movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH;
+
+        if (xMove > 0) xMove = Math.min(xMove, rightLimit);
+        else xMove = Math.max(xMove, leftLimit);
+
+        if (yMove > 0) yMove = Math.min(yMove, upLimit);
+        else yMove = Math.max(yMove, downLimit);
+
+        transform.translate(xMove, yMove);
+    }
+
+    void scheduleDirectionChange(Entity entity, float delay) {
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        world.timerSystem.cancel(velocity.directionTimer);
+        velocity.directionTimer = world.timerSystem.schedule(TimerSystem.ticks(delay), TimerSystem.CHANGE_DIRECTION, entity);
+    }
+
+    @Override
+    public void onTimer(int kind, Object target) {
+        Entity entity = (Entity)target;
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        velocity.randomizeDirection();
+        velocity.directionTimer = world.timerSystem.schedule(TimerSystem.ticks(velocity.directionChangeFrequency),
+                TimerSystem.CHANGE_DIRECTION, entity);
+    }
+}
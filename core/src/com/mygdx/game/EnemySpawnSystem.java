@@ -0,0 +1,102 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
+
+//works through the waves of a WaveSchedule, one SPAWN timer per ship (or per wave when it arrives all at once)
+class EnemySpawnSystem extends EntitySystem implements TimerWheel.Listener {
+
+    private final GameWorld world;
+    private final WaveSchedule schedule;
+
+    //progress through the schedule
+    private int waveIndex = 0;
+    private int spawnedInWave = 0;
+    private float columnX; //a column keeps the x of its first ship
+
+    EnemySpawnSystem(GameWorld world, WaveSchedule schedule) {
+        this.world = world;
+        this.schedule = schedule;
+        setProcessing(false);
+    }
+
+    void start() {
+        if (schedule.waves.size == 0) return;
+        world.timerSystem.schedule(TimerSystem.ticks(schedule.startDelay), TimerSystem.SPAWN, null);
+    }
+
+    //progress and the random stream; the pending SPAWN timer is saved with the wheel
+    void write(ByteBuffer out) {
+        out.putInt(schedule.waves.size).putInt(waveIndex).putInt(spawnedInWave).putFloat(columnX)
+                .putLong(Launcher.random.getState(0)).putLong(Launcher.random.getState(1));
+    }
+
+    //throws before changing anything if the state belongs to another schedule
+    void read(ByteBuffer in) {
+        int waveCount = in.getInt();
+        int savedWaveIndex = in.getInt();
+        if (waveCount != schedule.waves.size || savedWaveIndex > 0 && savedWaveIndex >= waveCount) {
+            throw new GdxRuntimeException("the state was saved with another wave schedule");
+        }
+        waveIndex = savedWaveIndex;
+        spawnedInWave = in.getInt();
+        columnX = in.getFloat();
+        long seed0 = in.getLong();
+        Launcher.random.setState(seed0, in.getLong());
+    }
+
+    @Override
+    public void onTimer(int kind, Object target) {
+        WaveDefinition wave = schedule.waves.get(waveIndex);
+        ShipStats stats = schedule.getShip(wave.ship);
+        do {
+            spawn(wave, stats, spawnedInWave++);
+        } while (spawnedInWave < wave.count && wave.spawnInterval == 0);
+
+        if (spawnedInWave < wave.count) {
+            world.timerSystem.schedule(TimerSystem.ticks(wave.spawnInterval), TimerSystem.SPAWN, null);
+            return;
+        }
+        spawnedInWave = 0;
+        waveIndex++;
+        if (waveIndex == schedule.waves.size) {
+            if (!schedule.repeat) return;
+            waveIndex = 0;
+        }
+        world.timerSystem.schedule(TimerSystem.ticks(wave.pause), TimerSystem.SPAWN, null);
+    }
+
+    private void spawn(WaveDefinition wave, ShipStats stats, int index) {
+        int count = wave.count;
+        float top = WORLD_HEIGHT - stats.height / 2;
+        float xCentre, yCentre = top;
+        if (WaveDefinition.LINE.equals(wave.formation)) {
+            xCentre = WORLD_WIDHTH * (index + 1f) / (count + 1);
+        }
+        else if (WaveDefinition.COLUMN.equals(wave.formation)) {
+            if (index == 0) columnX = randomX(stats);
+            xCentre = columnX;
+            yCentre = Math.max(WORLD_HEIGHT / 2f + stats.height / 2, top - index * (stats.height + 2));
+        }
+        else if (WaveDefinition.VEE.equals(wave.formation)) {
+            //the point of the vee is the lowest ship, in the middle
+            float middle = (count - 1) / 2f;
+            xCentre = WORLD_WIDHTH * (index + 1f) / (count + 1);
+            yCentre = top - (middle - Math.abs(index - middle)) * stats.height / 2;
+        }
+        else {
+            xCentre = randomX(stats);
+        }
+        //seeded here, in spawn order, so every ship's stream is the same however the update is split
+        world.createEnemyShip(xCentre, yCentre, stats, Launcher.random.nextLong());
+    }
+
+    private float randomX(ShipStats stats) {
+        return Launcher.random.nextFloat() * (WORLD_WIDHTH - stats.width) + stats.width / 2;
+    }
+}
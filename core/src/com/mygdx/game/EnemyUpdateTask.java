@@ -0,0 +1,46 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+//runs EnemyMovementSystem over a range of enemies, splitting it in halves across a fork-join pool;
+//each ship only touches its own components and random stream, so the result does not depend on the thread count
+class EnemyUpdateTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    //ships per leaf task, and the swarm size below which splitting costs more than it saves
+    static final int CHUNK_SIZE = 1024;
+    static final int PARALLEL_THRESHOLD = 2 * CHUNK_SIZE;
+
+    static final ForkJoinPool SHARED_POOL = new ForkJoinPool();
+
+    private final EnemyMovementSystem system;
+    private final ImmutableArray<Entity> enemyShips;
+    private final int from, to;
+    private final float deltaTime;
+
+    EnemyUpdateTask(EnemyMovementSystem system, ImmutableArray<Entity> enemyShips, int from, int to, float deltaTime) {
+        this.system = system;
+        this.enemyShips = enemyShips;
+        this.from = from;
+        this.to = to;
+        this.deltaTime = deltaTime;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= CHUNK_SIZE) {
+            for (int i = from; i < to; i++) {
+                system.processEntity(enemyShips.get(i), deltaTime);
+            }
+            return;
+        }
+        int middle = (from + to) >>> 1;
+        invokeAll(new EnemyUpdateTask(system, enemyShips, from, middle, deltaTime),
+                new EnemyUpdateTask(system, enemyShips, middle, to, deltaTime));
+    }
+}
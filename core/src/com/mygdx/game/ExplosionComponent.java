@@ -0,0 +1,17 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+//shared frames, played over the entity's lifetime
+class ExplosionComponent implements Component, Pool.Poolable {
+
+    Animation<TextureRegion> animation;
+
+    @Override
+    public void reset() {
+        animation = null;
+    }
+}
@@ -0,0 +1,228 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.PixmapIO;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.PixmapPacker;
+import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.UnsupportedEncodingException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+//bakes FreeType fonts to .fnt + .png once, so later launches can load them like any other BitmapFont
+class FontCache {
+
+    private static final String TAG = "FontCache";
+    private static final int FORMAT_VERSION = 1; //bump when the baked file layout changes
+    private static final int PAGE_SIZE = 1024;
+
+    private final FileHandle cacheDirectory;
+
+    FontCache(FileHandle cacheDirectory) {
+        this.cacheDirectory = cacheDirectory;
+    }
+
+    //the file name carries a hash of the font and the parameters, so any change misses the cache
+    public FileHandle getFntFile(FileHandle fontFile, FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        return cacheDirectory.child(fontFile.nameWithoutExtension() + "-" + hash(fontFile, parameter) + ".fnt");
+    }
+
+    public boolean isBaked(FileHandle fntFile) {
+        return fntFile.exists() && pageFile(fntFile, 0).exists();
+    }
+
+    //FreeType output goes through textures, so this has to run on the GL thread
+    public void bake(FileHandle fontFile, FreeTypeFontGenerator.FreeTypeFontParameter parameter, FileHandle fntFile) {
+        long start = System.nanoTime();
+        //same packer the generator would create itself, but kept so the page pixmaps can be saved
+        PixmapPacker packer = new PixmapPacker(PAGE_SIZE, PAGE_SIZE, Pixmap.Format.RGBA8888, 1, false,
+                new PixmapPacker.GuillotineStrategy());
+        packer.setTransparentColor(parameter.borderWidth > 0 ? parameter.borderColor : parameter.color);
+        packer.getTransparentColor().a = 0;
+
+        FreeTypeFontGenerator.FreeTypeFontParameter bakeParameter = copyOf(parameter);
+        bakeParameter.packer = packer;
+        FreeTypeFontGenerator generator = new FreeTypeFontGenerator(fontFile);
+        try {
+            BitmapFont.BitmapFontData data = generator.generateData(bakeParameter);
+
+            //stale bakes of the same font are removed first
+            for (FileHandle file : cacheDirectory.list()) {
+                if (file.name().startsWith(fontFile.nameWithoutExtension() + "-")) {
+                    file.delete();
+                }
+            }
+
+            int pageCount = packer.getPages().size;
+            for (int i = 0; i < pageCount; i++) {
+                PixmapIO.writePNG(pageFile(fntFile, i), packer.getPages().get(i).getPixmap());
+            }
+            fntFile.writeString(toFnt(fontFile.nameWithoutExtension(), parameter.size, data, fntFile, pageCount),
+                    false, "UTF-8");
+            Gdx.app.log(TAG, fontFile.name() + " baked in " + millisSince(start) + " ms");
+        } finally {
+            packer.dispose();
+            generator.dispose();
+        }
+    }
+
+    //AngelCode text format, plus the "metrics" line so the loaded font keeps FreeType's exact metrics
+    private String toFnt(String face, int size, BitmapFont.BitmapFontData data, FileHandle fntFile, int pageCount) {
+        StringBuilder fnt = new StringBuilder(8192);
+        fnt.append("info face=\"").append(face).append("\" size=").append(size)
+                .append(" bold=0 italic=0 charset=\"\" unicode=1 stretchH=100 smooth=1 aa=1 padding=")
+                .append((int)data.padTop).append(',').append((int)data.padRight).append(',')
+                .append((int)data.padBottom).append(',').append((int)data.padLeft)
+                .append(" spacing=0,0\n");
+        fnt.append("common lineHeight=").append((int)data.lineHeight)
+                .append(" base=").append((int)(data.lineHeight + data.descent))
+                .append(" scaleW=").append(PAGE_SIZE).append(" scaleH=").append(PAGE_SIZE)
+                .append(" pages=").append(pageCount).append(" packed=0\n");
+        for (int i = 0; i < pageCount; i++) {
+            fnt.append("page id=").append(i).append(" file=\"").append(pageFile(fntFile, i).name()).append("\"\n");
+        }
+
+        int glyphCount = 0;
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph != null) glyphCount++;
+            }
+        }
+        if (data.missingGlyph != null) glyphCount++;
+        fnt.append("chars count=").append(glyphCount).append('\n');
+        if (data.missingGlyph != null) {
+            appendGlyph(fnt, data.missingGlyph, 0);
+        }
+        for (BitmapFont.Glyph[] page : data.glyphs) {
+            if (page == null) continue;
+            for (BitmapFont.Glyph glyph : page) {
+                if (glyph != null) appendGlyph(fnt, glyph, glyph.id);
+            }
+        }
+
+        StringBuilder kernings = new StringBuilder();
+        int kerningCount = 0;
+        for (BitmapFont.Glyph[] firstPage : data.glyphs) {
+            if (firstPage == null) continue;
+            for (BitmapFont.Glyph first : firstPage) {
+                if (first == null || first.kerning == null) continue;
+                for (BitmapFont.Glyph[] secondPage : data.glyphs) {
+                    if (secondPage == null) continue;
+                    for (BitmapFont.Glyph second : secondPage) {
+                        if (second == null) continue;
+                        int amount = first.getKerning((char)second.id);
+                        if (amount != 0) {
+                            kernings.append("kerning first=").append(first.id).append(" second=").append(second.id)
+                                    .append(" amount=").append(amount).append('\n');
+                            kerningCount++;
+                        }
+                    }
+                }
+            }
+        }
+        fnt.append("kernings count=").append(kerningCount).append('\n').append(kernings);
+
+        fnt.append("metrics ascent=").append(data.ascent)
+                .append(" descent=").append(data.descent)
+                .append(" down=").append(data.down)
+                .append(" capHeight=").append(data.capHeight)
+                .append(" lineHeight=").append(data.lineHeight)
+                .append(" spaceXAdvance=").append(data.spaceXadvance)
+                .append(" xHeight=").append(data.xHeight).append('\n');
+        return fnt.toString();
+    }
+
+    private void appendGlyph(StringBuilder fnt, BitmapFont.Glyph glyph, int id) {
+        fnt.append("char id=").append(id)
+                .append(" x=").append(glyph.srcX).append(" y=").append(glyph.srcY)
+                .append(" width=").append(glyph.width).append(" height=").append(glyph.height)
+                .append(" xoffset=").append(glyph.xoffset)
+                //the loader turns this back into -(height + yoffset)
+                .append(" yoffset=").append(-(glyph.height + glyph.yoffset))
+                .append(" xadvance=").append(glyph.xadvance)
+                .append(" page=").append(glyph.page).append(" chnl=0\n");
+    }
+
+    private FileHandle pageFile(FileHandle fntFile, int page) {
+        return fntFile.sibling(fntFile.nameWithoutExtension() + "_" + page + ".png");
+    }
+
+    private String hash(FileHandle fontFile, FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(fontFile.readBytes());
+            digest.update(describe(parameter).getBytes("UTF-8"));
+            byte[] bytes = digest.digest();
+            StringBuilder hex = new StringBuilder(16);
+            for (int i = 0; i < 8; i++) {
+                hex.append(Character.forDigit((bytes[i] >> 4) & 0xf, 16)).append(Character.forDigit(bytes[i] & 0xf, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new GdxRuntimeException(e);
+        } catch (UnsupportedEncodingException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    //every parameter that changes the generated glyphs
+    private String describe(FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        return "v" + FORMAT_VERSION
+                + " size=" + parameter.size + " mono=" + parameter.mono + " hinting=" + parameter.hinting
+                + " color=" + colour(parameter.color) + " gamma=" + parameter.gamma
+                + " renderCount=" + parameter.renderCount
+                + " borderWidth=" + parameter.borderWidth + " borderColor=" + colour(parameter.borderColor)
+                + " borderStraight=" + parameter.borderStraight + " borderGamma=" + parameter.borderGamma
+                + " shadow=" + parameter.shadowOffsetX + "," + parameter.shadowOffsetY
+                + " shadowColor=" + colour(parameter.shadowColor)
+                + " space=" + parameter.spaceX + "," + parameter.spaceY
+                + " pad=" + parameter.padTop + "," + parameter.padLeft + "," + parameter.padBottom + "," + parameter.padRight
+                + " kerning=" + parameter.kerning + " flip=" + parameter.flip
+                + " characters=" + parameter.characters;
+    }
+
+    private String colour(Color color) {
+        return color == null ? "null" : color.toString();
+    }
+
+    private FreeTypeFontGenerator.FreeTypeFontParameter copyOf(FreeTypeFontGenerator.FreeTypeFontParameter parameter) {
+        FreeTypeFontGenerator.FreeTypeFontParameter copy = new FreeTypeFontGenerator.FreeTypeFontParameter();
+        copy.size = parameter.size;
+        copy.mono = parameter.mono;
+        copy.hinting = parameter.hinting;
+        copy.color = parameter.color;
+        copy.gamma = parameter.gamma;
+        copy.renderCount = parameter.renderCount;
+        copy.borderWidth = parameter.borderWidth;
+        copy.borderColor = parameter.borderColor;
+        copy.borderStraight = parameter.borderStraight;
+        copy.borderGamma = parameter.borderGamma;
+        copy.shadowOffsetX = parameter.shadowOffsetX;
+        copy.shadowOffsetY = parameter.shadowOffsetY;
+        copy.shadowColor = parameter.shadowColor;
+        copy.spaceX = parameter.spaceX;
+        copy.spaceY = parameter.spaceY;
+        copy.padTop = parameter.padTop;
+        copy.padLeft = parameter.padLeft;
+        copy.padBottom = parameter.padBottom;
+        copy.padRight = parameter.padRight;
+        copy.characters = parameter.characters;
+        copy.kerning = parameter.kerning;
+        copy.flip = parameter.flip;
+        copy.genMipMaps = parameter.genMipMaps;
+        copy.minFilter = parameter.minFilter;
+        copy.magFilter = parameter.magFilter;
+        copy.incremental = parameter.incremental;
+        return copy;
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000000;
+    }
+}
@@ -0,0 +1,194 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+
+//per-phase frame timings, entity counts, render calls and allocations in fixed-size ring buffers
+class FrameProfiler {
+
+    //phases, each may be entered several times per frame (e.g. once per simulation tick);
+    //simulation and drawing are timed apart, so e.g. lasers is the update and submitLasers the draw side
+    static final int BACKGROUND = 0, INPUT = 1, ENEMIES = 2, LASERS = 3,
+            COLLISIONS = 4, EXPLOSIONS = 5, HUD = 6, RENDER_QUEUE = 7, TIMERS = 8, PARTICLES = 9, NETWORK = 10,
+            SUBMIT_SHIPS = 11, SUBMIT_LASERS = 12, SUBMIT_PARTICLES = 13;
+    static final int PHASE_COUNT = 14;
+    static final String[] PHASE_NAMES = {"renderBackground", "detectInput", "enemies", "lasers",
+            "detectCollisions", "explosions", "updateAndRenderHUD", "renderQueue", "timers", "particles", "network",
+            "submitShips", "submitLasers", "submitParticles"};
+
+    //per-frame counters
+    static final int FRAME_NANOS = 0, ENEMY_SHIPS = 1, PLAYER_LASERS = 2, ENEMY_LASERS = 3,
+            EXPLOSION_COUNT = 4, RENDER_CALLS = 5, TOTAL_RENDER_CALLS = 6, ALLOCATED_BYTES = 7,
+            QUEUED_SPRITES = 8, CULLED_SPRITES = 9, LIVE_PARTICLES = 10, DROPPED_PARTICLES = 11,
+            TEXTURE_BINDS = 12, SPRITE_TEXTURE_BINDS = 13, QUALITY_LEVEL = 14;
+    static final int COUNTER_COUNT = 15;
+    static final String[] COUNTER_NAMES = {"frameNanos", "enemyShips", "playerLasers", "enemyLasers",
+            "explosions", "renderCalls", "totalRenderCalls", "allocatedBytes",
+            "queuedSprites", "culledSprites", "liveParticles", "droppedParticles",
+            "textureBinds", "spriteTextureBinds", "qualityLevel"};
+
+    //a profiler that records nothing, for worlds nobody is watching
+    static final FrameProfiler NONE = new FrameProfiler(1);
+
+    private final int capacity;
+    private final long[][] phaseSamples;
+    private final long[][] counterSamples;
+    private int frameCount = 0; //frames recorded in total, the ring holds the last capacity of them
+
+    //current frame
+    private boolean recording = false;
+    private long frameStart, allocatedAtFrameStart;
+    private final long[] phaseNanos = new long[PHASE_COUNT];
+    private final long[] phaseStart = new long[PHASE_COUNT];
+    private final long[] frameCounters = new long[COUNTER_COUNT]; //set during the frame, see count
+
+    private final com.sun.management.ThreadMXBean threadBean;
+    private final long threadId;
+
+    private final long[] sortScratch;
+
+    FrameProfiler(int capacity) {
+        this.capacity = capacity;
+        phaseSamples = new long[PHASE_COUNT][capacity];
+        counterSamples = new long[COUNTER_COUNT][capacity];
+        sortScratch = new long[capacity];
+        threadBean = allocationCountingBean();
+        threadId = Thread.currentThread().getId();
+    }
+
+    public void beginFrame() {
+        if (this == NONE) return;
+        recording = true;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseNanos[i] = 0;
+        }
+        for (int i = 0; i < COUNTER_COUNT; i++) {
+            frameCounters[i] = 0;
+        }
+        allocatedAtFrameStart = allocatedBytes();
+        frameStart = System.nanoTime();
+    }
+
+    public void begin(int phase) {
+        if (!recording) return;
+        phaseStart[phase] = System.nanoTime();
+    }
+
+    public void end(int phase) {
+        if (!recording) return;
+        phaseNanos[phase] += System.nanoTime() - phaseStart[phase];
+    }
+
+    //counters that are not passed to endFrame, e.g. by the code that knows them
+    public void count(int counter, long value) {
+        if (!recording) return;
+        frameCounters[counter] = value;
+    }
+
+    public void endFrame(int enemyShips, int playerLasers, int enemyLasers, int explosions,
+                         int renderCalls, int totalRenderCalls) {
+        if (!recording) return;
+        recording = false;
+        long frameNanos = System.nanoTime() - frameStart;
+        long allocated = threadBean == null ? -1 : allocatedBytes() - allocatedAtFrameStart;
+
+        int slot = frameCount % capacity;
+        for (int i = 0; i < PHASE_COUNT; i++) {
+            phaseSamples[i][slot] = phaseNanos[i];
+        }
+        frameCounters[FRAME_NANOS] = frameNanos;
+        frameCounters[ENEMY_SHIPS] = enemyShips;
+        frameCounters[PLAYER_LASERS] = playerLasers;
+        frameCounters[ENEMY_LASERS] = enemyLasers;
+        frameCounters[EXPLOSION_COUNT] = explosions;
+        frameCounters[RENDER_CALLS] = renderCalls;
+        frameCounters[TOTAL_RENDER_CALLS] = totalRenderCalls;
+        frameCounters[ALLOCATED_BYTES] = allocated;
+        for (int i = 0; i < COUNTER_COUNT; i++) {
+            counterSamples[i][slot] = frameCounters[i];
+        }
+        frameCount++;
+    }
+
+    public int getFrameCount() {
+        return frameCount;
+    }
+
+    public int getSampleCount() {
+        return Math.min(frameCount, capacity);
+    }
+
+    public long getLastCounter(int counter) {
+        return frameCount == 0 ? 0 : counterSamples[counter][(frameCount - 1) % capacity];
+    }
+
+    //percentile (0..100) of a phase over the frames in the ring buffer, in nanoseconds
+    public long phasePercentile(int phase, int percentile) {
+        return percentile(phaseSamples[phase], percentile);
+    }
+
+    public long counterPercentile(int counter, int percentile) {
+        return percentile(counterSamples[counter], percentile);
+    }
+
+    private long percentile(long[] samples, int percentile) {
+        int count = getSampleCount();
+        if (count == 0) return 0;
+        System.arraycopy(samples, 0, sortScratch, 0, count);
+        LongSort.heapSort(sortScratch, count);
+        int index = (int)Math.ceil(percentile / 100.0 * count) - 1;
+        return sortScratch[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    //the frames currently in the ring, oldest first, one row each
+    public void writeCsv(FileHandle file) {
+        Writer writer = file.writer(false, "UTF-8");
+        try {
+            writer.write("frame");
+            for (String name : PHASE_NAMES) writer.write("," + name + "Nanos");
+            for (String name : COUNTER_NAMES) writer.write("," + name);
+            writer.write("\n");
+            int count = getSampleCount();
+            for (int i = 0; i < count; i++) {
+                int frame = frameCount - count + i;
+                int slot = frame % capacity;
+                StringBuilder row = new StringBuilder().append(frame);
+                for (int phase = 0; phase < PHASE_COUNT; phase++) row.append(',').append(phaseSamples[phase][slot]);
+                for (int counter = 0; counter < COUNTER_COUNT; counter++) row.append(',').append(counterSamples[counter][slot]);
+                writer.write(row.append('\n').toString());
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not write " + file, e);
+        } finally {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private long allocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(threadId);
+    }
+
+    //HotSpot exposes per-thread allocation counters; other VMs report -1 for allocations
+    private static com.sun.management.ThreadMXBean allocationCountingBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean)bean;
+                if (allocationBean.isThreadAllocatedMemorySupported()) {
+                    allocationBean.setThreadAllocatedMemoryEnabled(true);
+                    return allocationBean;
+                }
+            }
+        } catch (Throwable ignored) {
+            //no java.lang.management or com.sun.management on this platform
+        }
+        return null;
+    }
+}
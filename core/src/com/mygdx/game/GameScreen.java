@@ -3,25 +3,24 @@ package com.mygdx.game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.controllers.Controllers;
 import com.badlogic.gdx.graphics.Camera;
-import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeType;
-import com.badlogic.gdx.graphics.g2d.freetype.FreeTypeFontGenerator;
-import com.badlogic.gdx.math.Rectangle;
-import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.viewport.StretchViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
 
-import java.util.LinkedList;
-import java.util.ListIterator;
-import java.util.Locale;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
 
 class GameScreen implements Screen {
 
@@ -29,51 +28,67 @@ class GameScreen implements Screen {
     private Camera camera;
     private Viewport viewport;
 
+    //everything this screen creates and has to dispose
+    private final ResourceRegistry resources = new ResourceRegistry("GameScreen");
+
     //graphics
+    private final int BATCH_SIZE = 1000; //sprites per flush, SpriteBatch's default
     private SpriteBatch batch;
+    private final RenderQueue renderQueue = new RenderQueue(256);
     private TextureAtlas textureAtlas;
-    private TextureRegion[] backgrounds;
     private TextureRegion playerShipTextureRegion, playerShieldTextureRegion,
             enemyShipTextureRegion, enemyShieldTextureRegion,
             playerLaserTextureRegion, enemyLaserTextureRegion;
-    private Texture explosionTexture;
+    private Array<TextureAtlas.AtlasRegion> explosionFrames;
 
     //timing
-    private float[] backgroundOffsets = {0,0,0,0};
+    private final float MAX_FRAME_TIME = 0.25f; //longer frames are clamped, so a stall cannot snowball
+    private float tickAccumulator = 0;
     private float backgroundMaxScrollingSpeed;
-    private float timeBetweenEnemySpawns = 3f;
-    private float enemySpawnTimer = 0;
 
-    //world parameters
-    private final int WORLD_WIDHTH = 72;
-    private final int WORLD_HEIGHT = 128;
-    private final float TOUCH_MOVEMENT_THRESHOLD = 0.5f;
+    //background layers, bottom first, with their share of the maximum scrolling speed
+    private final String[] BACKGROUND_LAYERS = {"Starscape00", "Starscape01", "Starscape02", "Starscape03"};
+    private final float[] BACKGROUND_LAYER_SPEEDS = {1/8f, 1/4f, 1/2f, 1f};
+    private BackgroundRenderer background;
 
     //game objects
-    private PlayerShip playerShip;
-    private LinkedList<EnemyShip> enemyShipList;
-    private LinkedList<Laser> playerLaserList;
-    private LinkedList<Laser> enemyLaserList;
-    private LinkedList<Explosion> explosionsList;
-
-    private int score = 0;
+    private GameWorld world;
+    private final PlayerInput playerInput = new PlayerInput();
+    private final int INPUT_QUEUE_SIZE = 256; //events, a few frames of frantic typing and stick wiggling
+    private InputQueue inputQueue;
+    private StressTest stressTest; //null unless launched with --stress
+    private InputRecorder recorder;
+    private InputReplay replay; //null once the recording has run out, the keyboard takes over
+
+    //saved states: BACKSPACE rewinds, F5 quicksaves, F9 quickloads
+    private final float REWIND_SECONDS = 10, REWIND_INTERVAL = 0.25f, REWIND_STEP = 2;
+    private RewindBuffer rewind; //null in a stress test, the states would be huge
+    private final WorldSerializer serializer = new WorldSerializer();
+    private ByteBuffer quicksave;
+    private final String QUICKSAVE_FILE = "quicksave.state";
+
+    //profiling, F3 toggles the overlay
+    private FrameProfiler profiler;
+    private ProfilerOverlay profilerOverlay;
+    private GLProfiler glProfiler; //counts texture binds, every sprite of the game is packed into one atlas page
+    private final String STRESS_REPORT = "stress-test.txt";
+
+    //quality, stepped down while frames overrun the budget
+    private QualityGovernor governor;
+    private int frameCount = 0; //rendered frames, explosions take turns by it
+    private float hudRefreshTimer = 0;
 
     //Head-Up Display
     BitmapFont font;
-    float hudVerticalMargin, hudLeftX, hudRightX, hudCentreX,
-            hudRow1Y, hudRow2Y, hudSectionWidth;
+    private Hud hud;
 
-    GameScreen() {
+    GameScreen(Assets assets, LaunchOptions options) {
         camera = new OrthographicCamera();
         viewport = new StretchViewport(WORLD_WIDHTH, WORLD_HEIGHT, camera);
+        inputQueue = new InputQueue(viewport, INPUT_QUEUE_SIZE);
 
         //set up the texture atlas
-        textureAtlas = new TextureAtlas("SpaceShooter.atlas");
-        backgrounds = new TextureRegion[4];
-        backgrounds[0] = textureAtlas.findRegion("Starscape00");
-        backgrounds[1] = textureAtlas.findRegion("Starscape01");
-        backgrounds[2] = textureAtlas.findRegion("Starscape02");
-        backgrounds[3] = textureAtlas.findRegion("Starscape03");
+        textureAtlas = assets.getTextureAtlas();
 
         //initialize texture regions
         playerShipTextureRegion = textureAtlas.findRegion("playerShip1_orange");
@@ -83,324 +98,250 @@ class GameScreen implements Screen {
         enemyShieldTextureRegion = textureAtlas.findRegion("shield2");
         enemyShieldTextureRegion.flip(false, true);
         enemyLaserTextureRegion = textureAtlas.findRegion("laserRed03");
-        explosionTexture = new Texture("explosion.png");
+        explosionFrames = textureAtlas.findRegions("explosion");
 
         backgroundMaxScrollingSpeed = (float)(WORLD_HEIGHT) / 2;
+        TextureRegion[] backgroundLayers = new TextureRegion[BACKGROUND_LAYERS.length];
+        float[] backgroundSpeeds = new float[BACKGROUND_LAYERS.length];
+        for (int i = 0; i < BACKGROUND_LAYERS.length; i++) {
+            backgroundLayers[i] = textureAtlas.findRegion(BACKGROUND_LAYERS[i]);
+            backgroundSpeeds[i] = backgroundMaxScrollingSpeed * BACKGROUND_LAYER_SPEEDS[i];
+        }
+        //the layers live in the atlas, the renderer only holds its shader
+        background = resources.add(new BackgroundRenderer(backgroundLayers, backgroundSpeeds, WORLD_WIDHTH, WORLD_HEIGHT),
+                "background", 0);
+
+        //one seed decides the whole session, a replay brings the one it was recorded with
+        if (options.replayFile != null) {
+            replay = resources.add(new InputReplay(Gdx.files.local(options.replayFile).file()), "replay",
+                    InputRecorder.BUFFER_BYTES);
+        }
+        long seed = replay != null ? replay.getSeed() : new Random().nextLong();
+        Launcher.random.setSeed(seed);
+
+        //set up game objects, a stress test brings its own enemies instead of the waves
+        WaveSchedule waves = assets.getWaveSchedule();
+        world = new GameWorld(playerShipTextureRegion, playerShieldTextureRegion, playerLaserTextureRegion,
+                enemyShipTextureRegion, enemyShieldTextureRegion, enemyLaserTextureRegion,
+                explosionFrames, options.stress ? WaveSchedule.none(waves) : waves);
+        if (options.stress) {
+            stressTest = new StressTest(world, Launcher.random.nextLong());
+        }
+        else if (replay == null && options.recordFile != null) {
+            recorder = resources.add(new InputRecorder(Gdx.files.local(options.recordFile).file(), seed), "recorder",
+                    InputRecorder.BUFFER_BYTES);
+        }
+        if (stressTest == null) {
+            rewind = new RewindBuffer(REWIND_SECONDS, REWIND_INTERVAL);
+        }
 
-        //set yp game objects
-        playerShip = new PlayerShip(25, 6,
-                (float)(WORLD_WIDHTH)/2, (float)(WORLD_HEIGHT)/4,
-                10, 10,
-                0.4f, 4,
-                45, 0.5f,
-                playerShipTextureRegion, playerShieldTextureRegion, playerLaserTextureRegion);
-        enemyShipList = new LinkedList<>();
-
-        playerLaserList = new LinkedList<>();
-        enemyLaserList = new LinkedList<>();
-
-        explosionsList = new LinkedList<>();
-
+        batch = resources.add(new SpriteBatch(BATCH_SIZE), "batch", ResourceRegistry.batchBytes(BATCH_SIZE));
 
-        batch = new SpriteBatch();
+        profiler = new FrameProfiler(600);
+        profilerOverlay = new ProfilerOverlay(profiler);
+        resources.add(profilerOverlay, "profilerOverlay", profilerOverlay.estimateBytes());
+        world.profiler = profiler;
+        //a stress test measures full quality unless told otherwise
+        governor = new QualityGovernor(options.getBudgetMillis(),
+                options.stress && options.quality < 0 ? 0 : options.quality);
+        background.setLayerCount(governor.getBackgroundLayers());
+        glProfiler = new GLProfiler(Gdx.graphics);
+        glProfiler.enable();
 
-        prepareHUD();
+        prepareHUD(assets);
     }
 
-    private void prepareHUD() {
-        //Create a BitmapFont from our font file
-        FreeTypeFontGenerator fontGenerator =
-                new FreeTypeFontGenerator(Gdx.files.internal(
-                        "EdgeOfTheGalaxyRegular-OVEa6.otf"));
-        FreeTypeFontGenerator.FreeTypeFontParameter fontParameter =
-                new FreeTypeFontGenerator.FreeTypeFontParameter();
-        fontParameter.size = 72;
-        fontParameter.borderWidth = 3.6f;
-        fontParameter.color = new Color(1,1,1,0.3f);
-        fontParameter.borderColor = new Color(0,0,0,0.3f);
-
-        font = fontGenerator.generateFont(fontParameter);
+    private void prepareHUD(Assets assets) {
+        //the font is baked by FontCache and loaded with the other assets
+        font = assets.getHudFont();
 
         //scale the font to fit the world
         font.getData().setScale(0.08f);
 
-        //calculate hud margins, etc.
-        hudVerticalMargin = font.getCapHeight() / 2;
-        hudLeftX = hudVerticalMargin;
-        hudRightX = (float)WORLD_WIDHTH * 2 / 3 - hudLeftX;
-        hudCentreX = (float)WORLD_WIDHTH / 3;
-        hudRow1Y = WORLD_HEIGHT - hudVerticalMargin;
-        hudRow2Y = hudRow1Y - hudVerticalMargin - font.getCapHeight();
-        hudSectionWidth = hudCentreX;
+        hud = new Hud(font, WORLD_WIDHTH, WORLD_HEIGHT);
     }
 
     @Override
     public void render(float deltaTime) {
-        batch.begin();
-
-        //scrolling background
-        renderBackground(deltaTime);
-
-        detectInput(deltaTime);
-        playerShip.update(deltaTime);
-
-        spawnEnemyShips(deltaTime);
-
-        ListIterator<EnemyShip> enemyShipListIterator = enemyShipList.listIterator();
-        while (enemyShipListIterator.hasNext()) {
-            EnemyShip enemyShip = enemyShipListIterator.next();
-            moveEnemy(enemyShip, deltaTime);
-            enemyShip.update(deltaTime);
-            enemyShip.draw(batch);
+        profiler.beginFrame();
+
+        //the simulation always advances in fixed ticks, whatever the frame rate
+        tickAccumulator += Math.min(deltaTime, MAX_FRAME_TIME);
+        long now = System.nanoTime();
+        while (tickAccumulator >= GameWorld.SIMULATION_TICK) {
+            //the backend hands over a frame's events right before render, so they all go into its first tick;
+            //the later ticks keep what is held
+            profiler.begin(FrameProfiler.INPUT);
+            readInput(now);
+            profiler.end(FrameProfiler.INPUT);
+            world.update(GameWorld.SIMULATION_TICK, playerInput);
+            if (rewind != null) rewind.record(world);
+            tickAccumulator -= GameWorld.SIMULATION_TICK;
         }
 
-        //player ships
-        playerShip.draw(batch);
-
-        //lasers
-        renderLasers(deltaTime);
-
-        //detect collisions lasers-ships
-        detectCollisions();
-
-        //explosions
-        updateAndRenderExplosions(deltaTime);
-
-        //hud rendering
-        updateAndRenderHUD();
+        draw(tickAccumulator / GameWorld.SIMULATION_TICK, deltaTime);
 
-        batch.end();
-    }
+        profiler.count(FrameProfiler.QUALITY_LEVEL, governor.getLevel());
+        profiler.endFrame(world.enemyShips.size(), world.playerLaserList.size, world.enemyLaserList.size,
+                world.explosions.size(), batch.renderCalls, batch.totalRenderCalls);
+        if (governor.frame(profiler.getLastCounter(FrameProfiler.FRAME_NANOS))) {
+            background.setLayerCount(governor.getBackgroundLayers());
+        }
+        frameCount++;
 
-    private void updateAndRenderHUD() {
-        font.draw(batch, "Score", hudLeftX, hudRow1Y, hudSectionWidth, Align.left, false);
-        font.draw(batch, "Shield", hudCentreX, hudRow1Y, hudSectionWidth, Align.center, false);
-        font.draw(batch, "Lives", hudRightX, hudRow1Y, hudSectionWidth, Align.right, false);
-        //render second row values
-        font.draw(batch, String.format(Locale.getDefault(), "%06d", score),
-                hudLeftX, hudRow2Y, hudSectionWidth, Align.left, false);
-        font.draw(batch, String.format(Locale.getDefault(), "%02d", playerShip.shield),
-                hudCentreX, hudRow2Y, hudSectionWidth, Align.center, false);
-        font.draw(batch, String.format(Locale.getDefault(), "%02d", playerShip.lives),
-                hudRightX, hudRow2Y, hudSectionWidth, Align.right, false);
-    }
+        if (stressTest != null && !stressTest.isFinished()
+                && stressTest.frame(profiler.getLastCounter(FrameProfiler.FRAME_NANOS))) {
+            String report = stressTest.report();
+            Gdx.app.log("StressTest", report);
+            Gdx.files.local(STRESS_REPORT).writeString(report + "\n", false);
+        }
 
-    private void spawnEnemyShips(float deltaTime) {
-        enemySpawnTimer += deltaTime;
-
-        if (enemySpawnTimer > timeBetweenEnemySpawns) {
-            enemyShipList.add(new EnemyShip(15, 4,
-                    Launcher.random.nextFloat() * (WORLD_WIDHTH - 10) + 5,
-                    WORLD_HEIGHT - 5,
-                    10, 10,
-                    0.3f, 5,
-                    30, 0.9f,
-                    enemyShipTextureRegion, enemyShieldTextureRegion, enemyLaserTextureRegion));
-            enemySpawnTimer -= timeBetweenEnemySpawns;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F3)) {
+            profilerOverlay.visible = !profilerOverlay.visible;
         }
+        profilerOverlay.draw(batch, deltaTime);
+
+        handleSavedStates();
     }
 
-    private void detectInput(float deltaTime) {
-        //keyboard input
-        float leftLimit, rightLimit, upLimit, downLimit;
-        leftLimit = -playerShip.boundingBox.x;
-        rightLimit = WORLD_WIDHTH - playerShip.boundingBox.x - playerShip.boundingBox.width;
-        downLimit = -playerShip.boundingBox.y;
-        upLimit = (float)WORLD_HEIGHT/2 - playerShip.boundingBox.y - playerShip.boundingBox.height;
-
-        if (Gdx.input.isKeyPressed(Input.Keys.RIGHT) && rightLimit > 0) {
-//            float xChange = playerShip.movementSpeed*deltaTime;
-//            xChange = Math.min(xChange, rightLimit);
-//            playerShip.translate(xChange, 0f);
-            playerShip.translate(Math.min(playerShip.movementSpeed * deltaTime, rightLimit), 0f);
+    //between frames, so a restored world is never half stepped
+    private void handleSavedStates() {
+        if (rewind != null && Gdx.input.isKeyJustPressed(Input.Keys.BACKSPACE)) {
+            long tick = rewind.rewind(world, REWIND_STEP);
+            if (tick >= 0) restored("rewound to tick " + tick);
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.UP) && upLimit > 0) {
-            playerShip.translate(0f, Math.min(playerShip.movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH, upLimit));
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F5)) {
+            long start = System.nanoTime();
+            quicksave = serializer.write(world, quicksave);
+            WorldSerializer.save(quicksave, Gdx.files.local(QUICKSAVE_FILE).file());
+            Gdx.app.log("GameScreen", "saved tick " + world.getTickCount() + ", " + quicksave.limit() + " bytes in "
+                    + (System.nanoTime() - start) / 1000 + " us");
         }
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) && leftLimit < 0) {
-            playerShip.translate(Math.max(-playerShip.movementSpeed * deltaTime, leftLimit), 0f);
-        }
-        if (Gdx.input.isKeyPressed(Input.Keys.DOWN) && downLimit < 0) {
-            playerShip.translate(0f, Math.max(-playerShip.movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH, downLimit));
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F9) && Gdx.files.local(QUICKSAVE_FILE).exists()) {
+            try {
+                quicksave = WorldSerializer.load(Gdx.files.local(QUICKSAVE_FILE).file(), quicksave);
+                serializer.read(quicksave, world);
+                restored("loaded tick " + world.getTickCount());
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("GameScreen", "could not load " + QUICKSAVE_FILE, e);
+            }
         }
+    }
 
-        //touch input (mouse)
-        if (Gdx.input.isTouched()) {
-            //get the screen position of the touch
-            float xTouchPixels, yTouchPixels;
-            xTouchPixels = Gdx.input.getX();
-            yTouchPixels = Gdx.input.getY();
-
-            //convert to world position
-            Vector2 touchPoint = new Vector2(xTouchPixels, yTouchPixels);
-            touchPoint = viewport.unproject(touchPoint);
-
-            //calculate the x and y dofferences
-            Vector2 playerShipCentre = new Vector2(
-                    playerShip.boundingBox.x + playerShip.boundingBox.width/2,
-                    playerShip.boundingBox.y + playerShip.boundingBox.height/2);
-            float touchDistance = touchPoint.dst(playerShipCentre);
-
-            if (touchDistance > TOUCH_MOVEMENT_THRESHOLD) {
-                float xTouchDifference = touchPoint.x - playerShipCentre.x;
-                float yTouchDifference = touchPoint.y - playerShipCentre.y;
-
-                //scale to the maximum speed of the ship
-                float xMove = xTouchDifference / touchDistance *
-                        playerShip.movementSpeed * deltaTime;
-                float yMove = yTouchDifference / touchDistance *
-                        playerShip.movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH;
-
-                if (xMove > 0) xMove = Math.min(xMove, rightLimit);
-                else xMove = Math.max(xMove, leftLimit);
-
-                if (yMove > 0) yMove = Math.min(yMove, upLimit);
-                else yMove = Math.max(yMove, downLimit);
-
-                playerShip.translate(xMove, yMove);
-            }
+    //the input so far no longer leads to this world, so a recording or replay of it ends here
+    private void restored(String what) {
+        Gdx.app.log("GameScreen", what);
+        tickAccumulator = 0;
+        if (recorder != null) {
+            Gdx.app.log("InputRecorder", "recording stopped, the world was restored");
+            resources.dispose(recorder);
+            recorder = null;
+        }
+        if (replay != null) {
+            resources.dispose(replay);
+            replay = null;
         }
     }
 
-    private void moveEnemy(EnemyShip enemyShip, float deltaTime) {
+    //alpha is how far this frame is between the last two ticks
+    private void draw(float alpha, float deltaTime) {
+        glProfiler.reset();
+        batch.begin();
 
-        float leftLimit, rightLimit, upLimit, downLimit;
-        leftLimit = -enemyShip.boundingBox.x;
-        rightLimit = WORLD_WIDHTH - enemyShip.boundingBox.x - enemyShip.boundingBox.width;
-        downLimit = (float)WORLD_HEIGHT/2-enemyShip.boundingBox.y;
-        upLimit = WORLD_HEIGHT - enemyShip.boundingBox.y - enemyShip.boundingBox.height;
+        //scrolling background, purely visual so it follows the frame time
+        profiler.begin(FrameProfiler.BACKGROUND);
+        background.update(deltaTime);
+        background.draw(batch);
+        profiler.end(FrameProfiler.BACKGROUND);
 
-        float xMove = enemyShip.getDirectionVector().x *
-                enemyShip.movementSpeed * deltaTime;
-        float yMove = enemyShip.getDirectionVector().y *
-                enemyShip.movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH;
+        //sprites go through the queue, culled and sorted so the batch flushes once per texture
+        renderQueue.begin(camera);
 
-        if (xMove > 0) xMove = Math.min(xMove, rightLimit);
-        else xMove = Math.max(xMove, leftLimit);
+        //ships
+        profiler.begin(FrameProfiler.SUBMIT_SHIPS);
+        world.renderSystem.submitShips(renderQueue, alpha);
+        profiler.end(FrameProfiler.SUBMIT_SHIPS);
 
-        if (yMove > 0) yMove = Math.min(yMove, upLimit);
-        else yMove = Math.max(yMove, downLimit);
+        //lasers
+        profiler.begin(FrameProfiler.SUBMIT_LASERS);
+        world.playerLaserList.submit(renderQueue, alpha);
+        world.enemyLaserList.submit(renderQueue, alpha);
+        profiler.end(FrameProfiler.SUBMIT_LASERS);
 
-        enemyShip.translate(xMove, yMove);
-    }
+        //explosions
+        profiler.begin(FrameProfiler.EXPLOSIONS);
+        world.renderSystem.submitExplosions(renderQueue, governor.getExplosionStride(), frameCount);
+        profiler.end(FrameProfiler.EXPLOSIONS);
+
+        //sparks
+        profiler.begin(FrameProfiler.SUBMIT_PARTICLES);
+        if (governor.drawSparks()) world.particleSystem.submit(renderQueue, alpha);
+        profiler.end(FrameProfiler.SUBMIT_PARTICLES);
+        profiler.count(FrameProfiler.LIVE_PARTICLES, world.particleSystem.particles.count);
+        profiler.count(FrameProfiler.DROPPED_PARTICLES, world.particleSystem.particles.dropped);
+
+        profiler.count(FrameProfiler.QUEUED_SPRITES, renderQueue.getQueued());
+        profiler.count(FrameProfiler.CULLED_SPRITES, renderQueue.getCulled());
+        profiler.begin(FrameProfiler.RENDER_QUEUE);
+        int bindsBeforeSprites = glProfiler.getTextureBindings();
+        renderQueue.flush(batch);
+        //the batch binds lazily, flush so the last texture of the sprites is counted with them and not the hud
+        batch.flush();
+        profiler.count(FrameProfiler.SPRITE_TEXTURE_BINDS, glProfiler.getTextureBindings() - bindsBeforeSprites);
+        profiler.end(FrameProfiler.RENDER_QUEUE);
 
-    private void detectCollisions() {
-        ListIterator<Laser> laserListiterator = playerLaserList.listIterator();
-        while (laserListiterator.hasNext()) {
-            Laser laser = laserListiterator.next();
-            ListIterator<EnemyShip> enemyShipListIterator = enemyShipList.listIterator();
-            while (enemyShipListIterator.hasNext()) {
-                EnemyShip enemyShip = enemyShipListIterator.next();
-
-                if (enemyShip.intersects(laser.boundingBox)) {
-                    if (enemyShip.hitAndCheckDestroyed(laser)) {
-                        enemyShipListIterator.remove();
-                        explosionsList.add(new Explosion(explosionTexture,
-                                new Rectangle(enemyShip.boundingBox),
-                                0.7f));
-                        score += 100;
-                    }
-                    laserListiterator.remove();
-                    break;
-                    }
-                }
-            }
+        //hud rendering
+        profiler.begin(FrameProfiler.HUD);
+        updateAndRenderHUD(deltaTime);
+        profiler.end(FrameProfiler.HUD);
 
-        laserListiterator = enemyLaserList.listIterator();
-        while (laserListiterator.hasNext()) {
-            Laser laser = laserListiterator.next();
-            if (playerShip.intersects(laser.boundingBox)) {
-                if (playerShip.hitAndCheckDestroyed(laser)) {
-                    explosionsList.add(new Explosion(explosionTexture,
-                            new Rectangle(playerShip.boundingBox),
-                            1.6f));
-                    playerShip.shield = 6;
-                    playerShip.lives--;
-                }
-                laserListiterator.remove();
-            }
-        }
+        batch.end();
+        profiler.count(FrameProfiler.TEXTURE_BINDS, glProfiler.getTextureBindings());
     }
 
-    private void updateAndRenderExplosions(float deltaTime){
-        ListIterator<Explosion> explosionListIterator =
-                explosionsList.listIterator();
-        while (explosionListIterator.hasNext()) {
-            Explosion explosion = explosionListIterator.next();
-            explosion.update(deltaTime);
-            if (explosion.isFinished()) {
-                explosionListIterator.remove();
-            }
-            else {
-                explosion.draw(batch);
-            }
+    //the values are refreshed as often as the quality level allows, the cached text is drawn every frame
+    private void updateAndRenderHUD(float deltaTime) {
+        hudRefreshTimer -= deltaTime;
+        if (hudRefreshTimer <= 0) {
+            hud.update(world.score, Mappers.shield.get(world.playerShip).shield,
+                    Mappers.player.get(world.playerShip).lives);
+            hudRefreshTimer = governor.getHudRefreshSeconds();
         }
+        hud.draw(batch);
     }
 
-    private void renderLasers(float deltaTime) {
-        //create new lasers
-        //player lasers
-        if (playerShip.canFireLaser()){
-            Laser[] lasers = playerShip.fireLasers();
-            for (Laser laser: lasers){
-                playerLaserList.add(laser);
-            }
+    //the recording while a replay lasts, the queued keyboard, touch and gamepad events and the governor's laser cap otherwise
+    private void readInput(long time) {
+        if (replay != null && !replay.next(playerInput)) {
+            endReplay();
         }
-        ListIterator<EnemyShip> enemyShipListIterator = enemyShipList.listIterator();
-        while (enemyShipListIterator.hasNext()) {
-            EnemyShip enemyShip = enemyShipListIterator.next();
-            if (enemyShip.canFireLaser()) {
-                Laser[] lasers = enemyShip.fireLasers();
-                for (Laser laser : lasers) {
-                    enemyLaserList.add(laser);
-                }
-            }
+        inputQueue.drain(replay == null ? playerInput : null, time);
+        if (replay == null) {
+            playerInput.laserCap = governor.getLaserCap();
         }
-        //draw lasers
-
-        //remove old lasers
-        ListIterator<Laser> iterator = playerLaserList.listIterator();
-        while(iterator.hasNext()) {
-            Laser laser = iterator.next();
-            laser.draw(batch);
-            laser.boundingBox.y += laser.movementSpeed*deltaTime;
-            if (laser.boundingBox.y > WORLD_HEIGHT) {
-                iterator.remove();
-            }
+        if (recorder != null) {
+            recorder.record(playerInput);
         }
+    }
 
-        iterator = enemyLaserList.listIterator();
-        while(iterator.hasNext()) {
-            Laser laser = iterator.next();
-            laser.draw(batch);
-            laser.boundingBox.y -= laser.movementSpeed*deltaTime;
-            if (laser.boundingBox.y + laser.boundingBox.height < 0) {
-                iterator.remove();
-            }
+    //every recorded tick has been simulated, so the world should be where the recording left it
+    private void endReplay() {
+        String mismatch = replay.verify(world);
+        if (mismatch == null) {
+            Gdx.app.log("InputReplay", "reproduced the recorded session, " + world.getTickCount() + " ticks");
         }
-    }
-    private void renderBackground(float deltaTime) {
-        backgroundOffsets[0] += deltaTime * backgroundMaxScrollingSpeed / 8;
-        backgroundOffsets[1] += deltaTime * backgroundMaxScrollingSpeed / 4;
-        backgroundOffsets[2] += deltaTime * backgroundMaxScrollingSpeed / 2;
-        backgroundOffsets[3] += deltaTime * backgroundMaxScrollingSpeed;
-
-        for (int i = 0; i < backgroundOffsets.length; i++) {
-            if (backgroundOffsets[i] > WORLD_HEIGHT) {
-                backgroundOffsets[i] = 0;
-            }
-            batch.draw(backgrounds[i], 0, -backgroundOffsets[i],
-                    WORLD_WIDHTH, WORLD_HEIGHT);
-            batch.draw(backgrounds[i], 0,
-                    -backgroundOffsets[i] + WORLD_HEIGHT,
-                    WORLD_WIDHTH, WORLD_HEIGHT);
+        else {
+            Gdx.app.error("InputReplay", "diverged from the recorded session: " + mismatch);
         }
+        resources.dispose(replay);
+        replay = null;
     }
 
     @Override
     public void resize(int width, int height) {
         viewport.update(width, height, true);
         batch.setProjectionMatrix(camera.combined);
+        profilerOverlay.resize(width, height);
     }
 
     @Override
@@ -415,16 +356,32 @@ class GameScreen implements Screen {
 
     @Override
     public void hide() {
-
+        Gdx.input.setInputProcessor(null);
+        Controllers.removeListener(inputQueue);
     }
 
     @Override
     public void dispose() {
-
+        if (recorder != null) {
+            recorder.finish(world);
+        }
+        profiler.writeCsv(Gdx.files.local("frame-profile.csv"));
+        Gdx.app.log("FrameProfiler", "frame ms p50/p95/p99: "
+                + profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 50) / 1e6f + " / "
+                + profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 95) / 1e6f + " / "
+                + profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 99) / 1e6f);
+        Gdx.app.log("FrameProfiler", "texture binds/frame p50/p99: "
+                + profiler.counterPercentile(FrameProfiler.TEXTURE_BINDS, 50) + " / "
+                + profiler.counterPercentile(FrameProfiler.TEXTURE_BINDS, 99) + ", sprites "
+                + profiler.counterPercentile(FrameProfiler.SPRITE_TEXTURE_BINDS, 50) + " / "
+                + profiler.counterPercentile(FrameProfiler.SPRITE_TEXTURE_BINDS, 99));
+        glProfiler.disable();
+        resources.dispose();
     }
 
     @Override
     public void show() {
-
+        Gdx.input.setInputProcessor(inputQueue);
+        Controllers.addListener(inputQueue);
     }
 }
@@ -0,0 +1,293 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.core.PooledEngine;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+
+//ships and explosions are pooled Ashley entities stepped by the systems below; holds graphics only as references
+class GameWorld implements Simulation {
+
+    //world parameters
+    static final int WORLD_WIDHTH = 72;
+    static final int WORLD_HEIGHT = 128;
+    static final float SIMULATION_TICK = 1f / 120; //seconds of game time per update
+    static final int PLAYER_SHIELD = 6;
+    private final int EXPLOSION_POOL_SIZE = 512;
+    static final int MAX_PARTICLES = 16384;
+
+    //system order within a tick; shots, direction changes, spawns and expiries are all timers
+    static final int PLAYER_CONTROL_PRIORITY = 0;
+    static final int ENEMY_MOVEMENT_PRIORITY = 1;
+    static final int TIMER_PRIORITY = 2;
+    static final int LASER_PRIORITY = 3;
+    static final int COLLISION_PRIORITY = 4;
+    static final int PARTICLE_PRIORITY = 5;
+
+    //graphics, all null when running headless
+    private TextureRegion playerShipTextureRegion, playerShieldTextureRegion;
+    private TextureRegion enemyShipTextureRegion, enemyShieldTextureRegion;
+    private Animation<TextureRegion> explosionAnimation;
+
+    //timing
+    long tickCount = 0;
+
+    int nextNetworkId = 1;
+
+    //game objects
+    final PooledEngine engine;
+    Entity playerShip; //the local player, steered by the input passed to update
+    final ImmutableArray<Entity> playerShips;
+    final ImmutableArray<Entity> enemyShips;
+    final ImmutableArray<Entity> explosions;
+    LaserStore playerLaserList;
+    LaserStore enemyLaserList;
+    final WaveSchedule waves;
+
+    //systems
+    final TimerSystem timerSystem;
+    final EnemySpawnSystem enemySpawnSystem;
+    final EnemyMovementSystem enemyMovementSystem;
+    final WeaponSystem weaponSystem;
+    final LaserSystem laserSystem;
+    final CollisionSystem collisionSystem;
+    final ParticleSystem particleSystem;
+    final RenderSystem renderSystem;
+
+    int score = 0;
+
+    //enemies hold fire while this many of their lasers are live, 0 for no limit; comes with the input
+    int enemyLaserCap = 0;
+
+    FrameProfiler profiler = FrameProfiler.NONE;
+
+    //headless world with the original spawning, nothing can be drawn
+    GameWorld() {
+        this(WaveSchedule.classic());
+    }
+
+    GameWorld(WaveSchedule waves) {
+        this(null, null, null, null, null, null, null, waves);
+    }
+
+    GameWorld(TextureRegion playerShipTextureRegion, TextureRegion playerShieldTextureRegion,
+              TextureRegion playerLaserTextureRegion,
+              TextureRegion enemyShipTextureRegion, TextureRegion enemyShieldTextureRegion,
+              TextureRegion enemyLaserTextureRegion,
+              Array<? extends TextureRegion> explosionFrames, WaveSchedule waves) {
+        this.playerShipTextureRegion = playerShipTextureRegion;
+        this.playerShieldTextureRegion = playerShieldTextureRegion;
+        this.enemyShipTextureRegion = enemyShipTextureRegion;
+        this.enemyShieldTextureRegion = enemyShieldTextureRegion;
+        this.explosionAnimation = RenderSystem.createExplosionAnimation(explosionFrames);
+        this.waves = waves;
+
+        engine = new PooledEngine(EXPLOSION_POOL_SIZE, 4 * EXPLOSION_POOL_SIZE,
+                EXPLOSION_POOL_SIZE, 4 * EXPLOSION_POOL_SIZE);
+        engine.addSystem(new PlayerControlSystem(this, PLAYER_CONTROL_PRIORITY));
+        engine.addSystem(enemyMovementSystem = new EnemyMovementSystem(this, ENEMY_MOVEMENT_PRIORITY));
+        engine.addSystem(timerSystem = new TimerSystem(this, TIMER_PRIORITY));
+        engine.addSystem(laserSystem = new LaserSystem(this, LASER_PRIORITY));
+        engine.addSystem(collisionSystem = new CollisionSystem(this, COLLISION_PRIORITY));
+        engine.addSystem(particleSystem = new ParticleSystem(this, PARTICLE_PRIORITY, MAX_PARTICLES, explosionFrames));
+        //driven by timers or by the screen, never updated by the engine
+        engine.addSystem(enemySpawnSystem = new EnemySpawnSystem(this, waves));
+        engine.addSystem(weaponSystem = new WeaponSystem(this));
+        engine.addSystem(renderSystem = new RenderSystem(this));
+
+        timerSystem.setListener(TimerSystem.FIRE, weaponSystem);
+        timerSystem.setListener(TimerSystem.CHANGE_DIRECTION, enemyMovementSystem);
+        timerSystem.setListener(TimerSystem.SPAWN, enemySpawnSystem);
+
+        playerShips = engine.getEntitiesFor(Family.all(PlayerComponent.class).get());
+        enemyShips = engine.getEntitiesFor(Family.all(EnemyComponent.class).get());
+        explosions = engine.getEntitiesFor(Family.all(ExplosionComponent.class).get());
+
+        playerLaserList = new LaserStore(64, 1, playerLaserTextureRegion);
+        enemyLaserList = new LaserStore(256, -1, enemyLaserTextureRegion);
+
+        //set yp game objects
+        playerShip = createPlayerShip((float)(WORLD_WIDHTH)/2, (float)(WORLD_HEIGHT)/4);
+
+        //warm the engine and emitter pools so a burst of kills does not allocate
+        for (int i = 0; i < EXPLOSION_POOL_SIZE; i++) {
+            createExplosion(playerShip.getComponent(TransformComponent.class).boundingBox, 0);
+        }
+        engine.removeAllEntities(Family.all(ExplosionComponent.class).get());
+        particleSystem.clear();
+
+        enemySpawnSystem.start();
+    }
+
+    @Override
+    public void update(float deltaTime, PlayerInput input) {
+        Mappers.player.get(playerShip).input = input;
+        enemyLaserCap = input.laserCap;
+        engine.update(deltaTime);
+        tickCount++;
+    }
+
+    @Override
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    @Override
+    public int getScore() {
+        return score;
+    }
+
+    @Override
+    public long getStateChecksum() {
+        long checksum = tickCount * 31 + score;
+        checksum = checksum(checksum, playerShip);
+        for (int i = 0; i < enemyShips.size(); i++) {
+            checksum = checksum(checksum, enemyShips.get(i));
+        }
+        checksum = checksum(checksum, playerLaserList);
+        checksum = checksum(checksum, enemyLaserList);
+        return checksum * 31 + explosions.size();
+    }
+
+    private static long checksum(long checksum, Entity ship) {
+        TransformComponent transform = Mappers.transform.get(ship);
+        checksum = checksum * 31 + Float.floatToIntBits(transform.boundingBox.x);
+        checksum = checksum * 31 + Float.floatToIntBits(transform.boundingBox.y);
+        return checksum * 31 + Mappers.shield.get(ship).shield;
+    }
+
+    private static long checksum(long checksum, LaserStore lasers) {
+        checksum = checksum * 31 + lasers.size;
+        for (int i = 0; i < lasers.size; i++) {
+            checksum = checksum * 31 + Float.floatToIntBits(lasers.x[i]);
+            checksum = checksum * 31 + Float.floatToIntBits(lasers.y[i]);
+        }
+        return checksum;
+    }
+
+    //further players, e.g. remote ones; they share the player lasers and the score
+    Entity addPlayerShip(float xCentre, PlayerInput input) {
+        Entity entity = createPlayerShip(xCentre, (float)(WORLD_HEIGHT)/4);
+        Mappers.player.get(entity).input = input;
+        return entity;
+    }
+
+    private Entity createPlayerShip(float xCentre, float yCentre) {
+        Entity entity = engine.createEntity();
+        entity.add(nextNetworkId());
+
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.set(xCentre, yCentre, 10, 10);
+        entity.add(transform);
+
+        VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+        velocity.movementSpeed = 25;
+        entity.add(velocity);
+
+        WeaponComponent weapon = engine.createComponent(WeaponComponent.class);
+        weapon.laserWidth = 0.4f;
+        weapon.laserHeight = 4;
+        weapon.laserMovementSpeed = 45;
+        weapon.timeBetweenShots = 0.5f;
+        weapon.leftMuzzleX = 0.18f;
+        weapon.rightMuzzleX = 0.82f;
+        weapon.muzzleOffsetY = transform.boundingBox.height*0.45f;
+        weapon.lasers = playerLaserList;
+        entity.add(weapon);
+
+        ShieldComponent shield = engine.createComponent(ShieldComponent.class);
+        shield.shield = PLAYER_SHIELD;
+        entity.add(shield);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.shipTextureRegion = playerShipTextureRegion;
+        sprite.shieldTextureRegion = playerShieldTextureRegion;
+        entity.add(sprite);
+
+        PlayerComponent player = engine.createComponent(PlayerComponent.class);
+        player.lives = 3;
+        entity.add(player);
+
+        engine.addEntity(entity);
+        weaponSystem.scheduleShot(entity, weapon.timeBetweenShots);
+        return entity;
+    }
+
+    Entity createEnemyShip(float xCentre, float yCentre, ShipStats stats, long seed) {
+        Entity entity = engine.createEntity();
+        entity.add(nextNetworkId());
+
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.set(xCentre, yCentre, stats.width, stats.height);
+        entity.add(transform);
+
+        VelocityComponent velocity = engine.createComponent(VelocityComponent.class);
+        velocity.movementSpeed = stats.movementSpeed;
+        velocity.directionChangeFrequency = stats.directionChangeFrequency;
+        velocity.random.setSeed(seed);
+        entity.add(velocity);
+
+        WeaponComponent weapon = engine.createComponent(WeaponComponent.class);
+        weapon.laserWidth = stats.laserWidth;
+        weapon.laserHeight = stats.laserHeight;
+        weapon.laserMovementSpeed = stats.laserMovementSpeed;
+        weapon.timeBetweenShots = stats.timeBetweenShots;
+        weapon.leftMuzzleX = 0.30f;
+        weapon.rightMuzzleX = 0.70f;
+        weapon.muzzleOffsetY = -weapon.laserHeight;
+        weapon.lasers = enemyLaserList;
+        entity.add(weapon);
+
+        ShieldComponent shield = engine.createComponent(ShieldComponent.class);
+        shield.shield = stats.shield;
+        entity.add(shield);
+
+        SpriteComponent sprite = engine.createComponent(SpriteComponent.class);
+        sprite.shipTextureRegion = enemyShipTextureRegion;
+        sprite.shieldTextureRegion = enemyShieldTextureRegion;
+        sprite.shieldOffsetY = -0.3f;
+        entity.add(sprite);
+
+        entity.add(engine.createComponent(EnemyComponent.class));
+
+        engine.addEntity(entity);
+        weaponSystem.scheduleShot(entity, weapon.timeBetweenShots);
+        enemyMovementSystem.scheduleDirectionChange(entity, velocity.directionChangeFrequency);
+        return entity;
+    }
+
+    //the box is copied, the explosion stays where the ship was
+    Entity createExplosion(Rectangle boundingBox, float totalAnimationTime) {
+        Entity entity = engine.createEntity();
+        entity.add(nextNetworkId());
+
+        TransformComponent transform = engine.createComponent(TransformComponent.class);
+        transform.boundingBox.set(boundingBox);
+        transform.savePreviousPosition();
+        entity.add(transform);
+
+        LifetimeComponent lifetime = engine.createComponent(LifetimeComponent.class);
+        lifetime.startTick = timerSystem.getCurrentTick();
+        lifetime.duration = totalAnimationTime;
+        lifetime.expiryTimer = timerSystem.schedule(TimerSystem.ticks(totalAnimationTime), TimerSystem.EXPIRE, entity);
+        entity.add(lifetime);
+
+        ExplosionComponent explosion = engine.createComponent(ExplosionComponent.class);
+        explosion.animation = explosionAnimation;
+        entity.add(explosion);
+
+        engine.addEntity(entity);
+        particleSystem.emitExplosion(boundingBox, totalAnimationTime);
+        return entity;
+    }
+
+    private NetworkIdComponent nextNetworkId() {
+        NetworkIdComponent networkId = engine.createComponent(NetworkIdComponent.class);
+        networkId.id = nextNetworkId++;
+        return networkId;
+    }
+}
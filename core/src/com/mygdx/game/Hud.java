@@ -0,0 +1,111 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.Align;
+import com.badlogic.gdx.utils.StringBuilder;
+
+//Head-Up Display: text is laid out only when a value changes, drawing reuses the cached glyphs
+class Hud {
+
+    private final BitmapFont font;
+    private final BitmapFontCache fontCache;
+
+    //layout
+    private float hudVerticalMargin, hudLeftX, hudRightX, hudCentreX,
+            hudRow1Y, hudRow2Y, hudSectionWidth;
+
+    //one cached layout per field
+    private final GlyphLayout scoreLabel = new GlyphLayout(), shieldLabel = new GlyphLayout(),
+            livesLabel = new GlyphLayout();
+    private final GlyphLayout scoreValue = new GlyphLayout(), shieldValue = new GlyphLayout(),
+            livesValue = new GlyphLayout();
+
+    //last values shown, so unchanged values are not laid out again
+    private int score, shield, lives;
+    private boolean valid = false;
+    private final StringBuilder text = new StringBuilder(8);
+
+    Hud(BitmapFont font, float worldWidth, float worldHeight) {
+        this.font = font;
+        this.fontCache = font.newFontCache();
+
+        //calculate hud margins, etc.
+        hudVerticalMargin = font.getCapHeight() / 2;
+        hudLeftX = hudVerticalMargin;
+        hudRightX = worldWidth * 2 / 3 - hudLeftX;
+        hudCentreX = worldWidth / 3;
+        hudRow1Y = worldHeight - hudVerticalMargin;
+        hudRow2Y = hudRow1Y - hudVerticalMargin - font.getCapHeight();
+        hudSectionWidth = hudCentreX;
+
+        //the first row never changes
+        layOut(scoreLabel, "Score", Align.left);
+        layOut(shieldLabel, "Shield", Align.center);
+        layOut(livesLabel, "Lives", Align.right);
+    }
+
+    public void update(int score, int shield, int lives) {
+        if (valid && score == this.score && shield == this.shield && lives == this.lives) {
+            return;
+        }
+        if (!valid || score != this.score) {
+            layOut(scoreValue, format(score, 6), Align.left);
+        }
+        if (!valid || shield != this.shield) {
+            layOut(shieldValue, format(shield, 2), Align.center);
+        }
+        if (!valid || lives != this.lives) {
+            layOut(livesValue, format(lives, 2), Align.right);
+        }
+        this.score = score;
+        this.shield = shield;
+        this.lives = lives;
+        valid = true;
+
+        //rebuild the vertex cache from the six layouts
+        fontCache.clear();
+        fontCache.addText(scoreLabel, hudLeftX, hudRow1Y);
+        fontCache.addText(shieldLabel, hudCentreX, hudRow1Y);
+        fontCache.addText(livesLabel, hudRightX, hudRow1Y);
+        fontCache.addText(scoreValue, hudLeftX, hudRow2Y);
+        fontCache.addText(shieldValue, hudCentreX, hudRow2Y);
+        fontCache.addText(livesValue, hudRightX, hudRow2Y);
+    }
+
+    public void draw(Batch batch) {
+        fontCache.draw(batch);
+    }
+
+    private void layOut(GlyphLayout layout, CharSequence str, int align) {
+        layout.setText(font, str, 0, str.length(), font.getColor(), hudSectionWidth, align, false, null);
+    }
+
+    //zero padded like String.format("%0<width>d"), but into a reused buffer
+    private StringBuilder format(int value, int width) {
+        text.setLength(0);
+        long magnitude = value;
+        if (magnitude < 0) {
+            text.append('-');
+            magnitude = -magnitude;
+            width--;
+        }
+        int digits = 1;
+        for (long rest = magnitude / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        for (int i = digits; i < width; i++) {
+            text.append('0');
+        }
+        long divisor = 1;
+        for (int i = 1; i < digits; i++) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            text.append((char)('0' + (magnitude / divisor) % 10));
+        }
+        return text;
+    }
+}
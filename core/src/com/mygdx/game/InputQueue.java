@@ -0,0 +1,247 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+import com.badlogic.gdx.controllers.Controller;
+import com.badlogic.gdx.controllers.ControllerListener;
+import com.badlogic.gdx.controllers.ControllerMapping;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.viewport.Viewport;
+
+//keyboard, touch and gamepad events as they arrive, with their time, in a preallocated ring of primitives;
+//drain applies them to a PlayerInput at the start of each simulation tick. A press released again before the
+//tick that takes it still counts for that tick, where polling would have missed it.
+//backends call the listeners on the render thread, the same one that drains
+class InputQueue implements InputProcessor, ControllerListener {
+
+    //event kinds; keys and buttons carry direction bits as in InputRecorder, touches screen coordinates,
+    //stick events the axis value in x
+    private static final byte KEY_DOWN = 0, KEY_UP = 1, BUTTON_DOWN = 2, BUTTON_UP = 3,
+            TOUCH_DOWN = 4, TOUCH_MOVE = 5, TOUCH_UP = 6, STICK_X = 7, STICK_Y = 8;
+    private static final int ALL_DIRECTIONS = InputRecorder.LEFT | InputRecorder.RIGHT | InputRecorder.UP | InputRecorder.DOWN;
+
+    static final float STICK_DEAD_ZONE = 0.3f;
+
+    private final Viewport viewport;
+    private final Vector2 touchPoint = new Vector2();
+
+    //the ring, oldest event at head
+    private final byte[] kinds;
+    private final int[] directions;
+    private final float[] x, y;
+    private final long[] times;
+    private final int mask;
+    private int head = 0, size = 0;
+    long dropped = 0; //oldest events applied early to make room while the ring was full
+
+    //state after the events drained so far
+    private int heldKeys, heldButtons;
+    private int pressed; //pressed since the previous drain, held or not
+    private float stickX, stickY;
+    private boolean touched, tapped;
+    private float touchScreenX, touchScreenY;
+
+    //capacity is rounded up to a power of two
+    InputQueue(Viewport viewport, int capacity) {
+        this.viewport = viewport;
+        int size = MathUtils.nextPowerOfTwo(capacity);
+        kinds = new byte[size];
+        directions = new int[size];
+        x = new float[size];
+        y = new float[size];
+        times = new long[size];
+        mask = size - 1;
+    }
+
+    //applies the events up to time (System.nanoTime) and writes the resulting state into input;
+    //a null input only keeps track of what is held, e.g. while a replay drives the ship
+    void drain(PlayerInput input, long time) {
+        while (size > 0 && times[head] <= time) {
+            apply(head);
+            head = (head + 1) & mask;
+            size--;
+        }
+        if (input != null) {
+            write(input);
+        }
+        pressed = 0;
+        tapped = false;
+    }
+
+    private void write(PlayerInput input) {
+        int held = heldKeys | heldButtons | pressed;
+        if (stickX < -STICK_DEAD_ZONE) held |= InputRecorder.LEFT;
+        if (stickX > STICK_DEAD_ZONE) held |= InputRecorder.RIGHT;
+        //stick y grows downwards
+        if (stickY < -STICK_DEAD_ZONE) held |= InputRecorder.UP;
+        if (stickY > STICK_DEAD_ZONE) held |= InputRecorder.DOWN;
+        input.left = (held & InputRecorder.LEFT) != 0;
+        input.right = (held & InputRecorder.RIGHT) != 0;
+        input.up = (held & InputRecorder.UP) != 0;
+        input.down = (held & InputRecorder.DOWN) != 0;
+
+        input.touched = touched || tapped;
+        if (input.touched) {
+            //convert to world position
+            viewport.unproject(touchPoint.set(touchScreenX, touchScreenY));
+            input.touchX = touchPoint.x;
+            input.touchY = touchPoint.y;
+        }
+    }
+
+    int getQueued() {
+        return size;
+    }
+
+    private void apply(int event) {
+        switch (kinds[event]) {
+            case KEY_DOWN:
+                heldKeys |= directions[event];
+                pressed |= directions[event];
+                break;
+            case KEY_UP:
+                heldKeys &= ~directions[event];
+                break;
+            case BUTTON_DOWN:
+                heldButtons |= directions[event];
+                pressed |= directions[event];
+                break;
+            case BUTTON_UP:
+                heldButtons &= ~directions[event];
+                break;
+            case TOUCH_DOWN:
+                touched = tapped = true;
+                touchScreenX = x[event];
+                touchScreenY = y[event];
+                break;
+            case TOUCH_MOVE:
+                touchScreenX = x[event];
+                touchScreenY = y[event];
+                break;
+            case TOUCH_UP:
+                touched = false;
+                break;
+            case STICK_X:
+                stickX = x[event];
+                break;
+            case STICK_Y:
+                stickY = x[event];
+                break;
+        }
+    }
+
+    private boolean add(byte kind, int direction, float eventX, float eventY, long time) {
+        if (size == kinds.length) {
+            //the oldest event still counts, early, so a release can never be lost and leave a key held
+            apply(head);
+            head = (head + 1) & mask;
+            size--;
+            dropped++;
+        }
+        int event = (head + size) & mask;
+        kinds[event] = kind;
+        directions[event] = direction;
+        x[event] = eventX;
+        y[event] = eventY;
+        times[event] = time;
+        size++;
+        return true;
+    }
+
+    private static int keyDirection(int keycode) {
+        switch (keycode) {
+            case Input.Keys.LEFT: return InputRecorder.LEFT;
+            case Input.Keys.RIGHT: return InputRecorder.RIGHT;
+            case Input.Keys.UP: return InputRecorder.UP;
+            case Input.Keys.DOWN: return InputRecorder.DOWN;
+            default: return 0;
+        }
+    }
+
+    private static int buttonDirection(Controller controller, int buttonCode) {
+        ControllerMapping mapping = controller.getMapping();
+        if (buttonCode == mapping.buttonDpadLeft) return InputRecorder.LEFT;
+        if (buttonCode == mapping.buttonDpadRight) return InputRecorder.RIGHT;
+        if (buttonCode == mapping.buttonDpadUp) return InputRecorder.UP;
+        if (buttonCode == mapping.buttonDpadDown) return InputRecorder.DOWN;
+        return 0;
+    }
+
+    //keyboard
+    @Override
+    public boolean keyDown(int keycode) {
+        int direction = keyDirection(keycode);
+        return direction != 0 && add(KEY_DOWN, direction, 0, 0, Gdx.input.getCurrentEventTime());
+    }
+
+    @Override
+    public boolean keyUp(int keycode) {
+        int direction = keyDirection(keycode);
+        return direction != 0 && add(KEY_UP, direction, 0, 0, Gdx.input.getCurrentEventTime());
+    }
+
+    @Override
+    public boolean keyTyped(char character) {
+        return false;
+    }
+
+    //touch and mouse, the first finger steers
+    @Override
+    public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        return pointer == 0 && add(TOUCH_DOWN, 0, screenX, screenY, Gdx.input.getCurrentEventTime());
+    }
+
+    @Override
+    public boolean touchDragged(int screenX, int screenY, int pointer) {
+        return pointer == 0 && add(TOUCH_MOVE, 0, screenX, screenY, Gdx.input.getCurrentEventTime());
+    }
+
+    @Override
+    public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+        return pointer == 0 && add(TOUCH_UP, 0, screenX, screenY, Gdx.input.getCurrentEventTime());
+    }
+
+    @Override
+    public boolean mouseMoved(int screenX, int screenY) {
+        return false;
+    }
+
+    @Override
+    public boolean scrolled(float amountX, float amountY) {
+        return false;
+    }
+
+    //gamepads, the d-pad and the left stick of any of them
+    @Override
+    public void connected(Controller controller) {
+    }
+
+    @Override
+    public void disconnected(Controller controller) {
+        add(BUTTON_UP, ALL_DIRECTIONS, 0, 0, System.nanoTime());
+        add(STICK_X, 0, 0, 0, System.nanoTime());
+        add(STICK_Y, 0, 0, 0, System.nanoTime());
+    }
+
+    @Override
+    public boolean buttonDown(Controller controller, int buttonCode) {
+        int direction = buttonDirection(controller, buttonCode);
+        return direction != 0 && add(BUTTON_DOWN, direction, 0, 0, System.nanoTime());
+    }
+
+    @Override
+    public boolean buttonUp(Controller controller, int buttonCode) {
+        int direction = buttonDirection(controller, buttonCode);
+        return direction != 0 && add(BUTTON_UP, direction, 0, 0, System.nanoTime());
+    }
+
+    @Override
+    public boolean axisMoved(Controller controller, int axisCode, float value) {
+        ControllerMapping mapping = controller.getMapping();
+        if (axisCode == mapping.axisLeftX) return add(STICK_X, 0, value, 0, System.nanoTime());
+        if (axisCode == mapping.axisLeftY) return add(STICK_Y, 0, value, 0, System.nanoTime());
+        return false;
+    }
+}
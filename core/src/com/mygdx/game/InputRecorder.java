@@ -0,0 +1,93 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+//writes a session as its seed followed by one entry per simulation tick, through a direct buffer and a FileChannel;
+//a tick is a byte of flags, plus the touch position while touching and the laser cap when it changed,
+//so a minute of keyboard play is about 7 KB
+class InputRecorder implements Disposable {
+
+    //file layout: header, entries, footer
+    static final int MAGIC = 0x53535250; //"SSRP"
+    static final short VERSION = 3; //2: Launcher.random became a RandomXS128, the same seed spawns differently
+                                    //3: the laser cap, version 2 files read the same without it
+    static final short OLDEST_VERSION = 2; //the oldest a replay still reads
+    static final int LEFT = 1, RIGHT = 1 << 1, UP = 1 << 2, DOWN = 1 << 3, TOUCHED = 1 << 4, LASER_CAP = 1 << 5;
+    static final byte END = (byte)0xFF; //starts the footer, never a valid set of flags
+    static final int MAX_ENTRY_BYTES = 1 + 4 + 4 + 4;
+    static final int FOOTER_BYTES = 1 + 8 + 4 + 8;
+
+    static final int BUFFER_BYTES = 64 * 1024;
+
+    private final File file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private boolean finished = false;
+    private int laserCap = 0; //the last one recorded
+
+    InputRecorder(File file, long seed) {
+        this.file = file;
+        try {
+            channel = new FileOutputStream(file).getChannel();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not create " + file, e);
+        }
+        buffer.putInt(MAGIC).putShort(VERSION).putLong(seed).putFloat(GameWorld.SIMULATION_TICK);
+    }
+
+    //the input of the tick about to be simulated
+    void record(PlayerInput input) {
+        if (buffer.remaining() < MAX_ENTRY_BYTES) flush();
+        int flags = (input.left ? LEFT : 0) | (input.right ? RIGHT : 0) | (input.up ? UP : 0)
+                | (input.down ? DOWN : 0) | (input.touched ? TOUCHED : 0)
+                | (input.laserCap != laserCap ? LASER_CAP : 0);
+        buffer.put((byte)flags);
+        if (input.touched) {
+            buffer.putFloat(input.touchX).putFloat(input.touchY);
+        }
+        if (input.laserCap != laserCap) {
+            laserCap = input.laserCap;
+            buffer.putInt(laserCap);
+        }
+    }
+
+    //closes the session with what the replay has to reproduce
+    void finish(Simulation simulation) {
+        if (finished) return;
+        if (buffer.remaining() < FOOTER_BYTES) flush();
+        buffer.put(END).putLong(simulation.getTickCount()).putInt(simulation.getScore())
+                .putLong(simulation.getStateChecksum());
+        flush();
+        finished = true;
+    }
+
+    private void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not write " + file, e);
+        }
+        buffer.clear();
+    }
+
+    //a session that was never finished keeps its entries but has no footer to verify against
+    @Override
+    public void dispose() {
+        try {
+            if (!finished) flush();
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not close " + file, e);
+        }
+    }
+}
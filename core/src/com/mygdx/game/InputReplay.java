@@ -0,0 +1,145 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+//reads back what InputRecorder wrote: seed the world with getSeed, then take one entry per tick until next returns false
+class InputReplay implements Disposable {
+
+    private final File file;
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(InputRecorder.BUFFER_BYTES);
+    private final long seed;
+    private int laserCap = 0; //holds until the recording changes it
+
+    //the footer, once reached
+    private boolean ended = false, hasFooter = false;
+    private long expectedTicks;
+    private int expectedScore;
+    private long expectedChecksum;
+
+    InputReplay(File file) {
+        this.file = file;
+        try {
+            channel = new FileInputStream(file).getChannel();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not open " + file, e);
+        }
+        buffer.limit(0);
+        require(4 + 2 + 8 + 4);
+        if (buffer.getInt() != InputRecorder.MAGIC) {
+            throw new GdxRuntimeException(file + " is not a recording");
+        }
+        short version = buffer.getShort();
+        if (version < InputRecorder.OLDEST_VERSION || version > InputRecorder.VERSION) {
+            throw new GdxRuntimeException(file + " is version " + version + ", expected "
+                    + InputRecorder.OLDEST_VERSION + " to " + InputRecorder.VERSION);
+        }
+        seed = buffer.getLong();
+        float tick = buffer.getFloat();
+        if (tick != GameWorld.SIMULATION_TICK) {
+            throw new GdxRuntimeException(file + " was recorded at a tick of " + tick + " s");
+        }
+    }
+
+    long getSeed() {
+        return seed;
+    }
+
+    //the input of the next tick, false once the recording is over
+    boolean next(PlayerInput input) {
+        if (ended) return false;
+        //cut off without a footer, e.g. the game was killed
+        if (!fill(1)) {
+            ended = true;
+            return false;
+        }
+        byte flags = buffer.get();
+        if (flags == InputRecorder.END) {
+            require(InputRecorder.FOOTER_BYTES - 1);
+            expectedTicks = buffer.getLong();
+            expectedScore = buffer.getInt();
+            expectedChecksum = buffer.getLong();
+            ended = hasFooter = true;
+            return false;
+        }
+        input.left = (flags & InputRecorder.LEFT) != 0;
+        input.right = (flags & InputRecorder.RIGHT) != 0;
+        input.up = (flags & InputRecorder.UP) != 0;
+        input.down = (flags & InputRecorder.DOWN) != 0;
+        input.touched = (flags & InputRecorder.TOUCHED) != 0;
+        if (input.touched) {
+            if (!fill(8)) {
+                ended = true;
+                return false;
+            }
+            input.touchX = buffer.getFloat();
+            input.touchY = buffer.getFloat();
+        }
+        else {
+            input.touchX = input.touchY = 0;
+        }
+        if ((flags & InputRecorder.LASER_CAP) != 0) {
+            if (!fill(4)) {
+                ended = true;
+                return false;
+            }
+            laserCap = buffer.getInt();
+        }
+        input.laserCap = laserCap;
+        return true;
+    }
+
+    //null if the simulation ended where the recording did, otherwise what differs
+    String verify(Simulation simulation) {
+        if (!hasFooter) return "the recording has no footer to verify against";
+        if (simulation.getTickCount() != expectedTicks) {
+            return "ticks " + simulation.getTickCount() + ", recorded " + expectedTicks;
+        }
+        if (simulation.getScore() != expectedScore) {
+            return "score " + simulation.getScore() + ", recorded " + expectedScore;
+        }
+        if (simulation.getStateChecksum() != expectedChecksum) {
+            return "state checksum " + Long.toHexString(simulation.getStateChecksum())
+                    + ", recorded " + Long.toHexString(expectedChecksum);
+        }
+        return null;
+    }
+
+    private void require(int count) {
+        if (!fill(count)) throw new GdxRuntimeException(file + " is cut off");
+    }
+
+    //makes sure at least count bytes can be read, false if the file ends first
+    private boolean fill(int count) {
+        if (buffer.remaining() >= count) return true;
+        buffer.compact();
+        try {
+            while (buffer.position() < count) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not read " + file, e);
+        }
+        buffer.flip();
+        return true;
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not close " + file, e);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+//lasers kept as parallel primitive arrays, so bulk move/cull/draw walk memory linearly
+class LaserStore {
+
+    //position and dimensions
+    float[] x, y, width, height;
+    float[] previousY; //y at the start of the current tick, for interpolation
+    int[] id; //for snapshots, never reused within a store
+    private int nextId = 1;
+
+    //laser physical characteristics
+    float[] movementSpeed; //world units per second
+    private final float direction; //+1 flies up the screen, -1 flies down
+
+    int size;
+
+    //graphics
+    TextureRegion textureRegion;
+
+    public LaserStore(int initialCapacity, float direction, TextureRegion textureRegion) {
+        x = new float[initialCapacity];
+        y = new float[initialCapacity];
+        previousY = new float[initialCapacity];
+        id = new int[initialCapacity];
+        width = new float[initialCapacity];
+        height = new float[initialCapacity];
+        movementSpeed = new float[initialCapacity];
+        this.direction = direction;
+        this.textureRegion = textureRegion;
+    }
+
+    public int add(float xCentre, float yBottom,
+                   float laserWidth, float laserHeight, float laserMovementSpeed) {
+        if (size == x.length) {
+            resize(Math.max(8, (int)(size * 1.75f)));
+        }
+        int index = size++;
+        x[index] = xCentre - laserWidth/2;
+        y[index] = yBottom;
+        previousY[index] = yBottom;
+        id[index] = nextId++;
+        width[index] = laserWidth;
+        height[index] = laserHeight;
+        movementSpeed[index] = laserMovementSpeed;
+        return index;
+    }
+
+    //removes by moving the last laser into the hole, so the order is not kept
+    public void removeIndex(int index) {
+        int last = --size;
+        x[index] = x[last];
+        y[index] = y[last];
+        previousY[index] = previousY[last];
+        id[index] = id[last];
+        width[index] = width[last];
+        height[index] = height[last];
+        movementSpeed[index] = movementSpeed[last];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public void update(float deltaTime) {
+        float step = direction * deltaTime;
+        for (int i = 0; i < size; i++) {
+            previousY[i] = y[i];
+            y[i] += movementSpeed[i] * step;
+        }
+    }
+
+    //drops every laser that is completely outside [bottom, top]
+    public void cull(float bottom, float top) {
+        for (int i = 0; i < size; i++) {
+            if (y[i] > top || y[i] + height[i] < bottom) {
+                removeIndex(i--);
+            }
+        }
+    }
+
+    //alpha is how far the frame is between the previous and the current tick
+    public void submit(RenderQueue queue, float alpha) {
+        for (int i = 0; i < size; i++) {
+            float drawY = previousY[i] + (y[i] - previousY[i]) * alpha;
+            queue.add(textureRegion, x[i], drawY, width[i], height[i], RenderQueue.LASERS);
+        }
+    }
+
+    public Rectangle getBoundingBox(int index, Rectangle out) {
+        return out.set(x[index], y[index], width[index], height[index]);
+    }
+
+    //column by column, in store order
+    void write(ByteBuffer out) {
+        out.putInt(size).putInt(nextId);
+        for (int i = 0; i < size; i++) out.putFloat(x[i]);
+        for (int i = 0; i < size; i++) out.putFloat(y[i]);
+        for (int i = 0; i < size; i++) out.putFloat(previousY[i]);
+        for (int i = 0; i < size; i++) out.putInt(id[i]);
+        for (int i = 0; i < size; i++) out.putFloat(width[i]);
+        for (int i = 0; i < size; i++) out.putFloat(height[i]);
+        for (int i = 0; i < size; i++) out.putFloat(movementSpeed[i]);
+    }
+
+    void read(ByteBuffer in) {
+        int count = in.getInt();
+        nextId = in.getInt();
+        if (count > x.length) resize(count);
+        size = count;
+        for (int i = 0; i < size; i++) x[i] = in.getFloat();
+        for (int i = 0; i < size; i++) y[i] = in.getFloat();
+        for (int i = 0; i < size; i++) previousY[i] = in.getFloat();
+        for (int i = 0; i < size; i++) id[i] = in.getInt();
+        for (int i = 0; i < size; i++) width[i] = in.getFloat();
+        for (int i = 0; i < size; i++) height[i] = in.getFloat();
+        for (int i = 0; i < size; i++) movementSpeed[i] = in.getFloat();
+    }
+
+    private void resize(int capacity) {
+        x = copyOf(x, capacity);
+        y = copyOf(y, capacity);
+        previousY = copyOf(previousY, capacity);
+        id = Arrays.copyOf(id, capacity);
+        width = copyOf(width, capacity);
+        height = copyOf(height, capacity);
+        movementSpeed = copyOf(movementSpeed, capacity);
+    }
+
+    private static float[] copyOf(float[] array, int capacity) {
+        float[] newArray = new float[capacity];
+        System.arraycopy(array, 0, newArray, 0, Math.min(array.length, capacity));
+        return newArray;
+    }
+}
@@ -0,0 +1,26 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.EntitySystem;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+
+//moves both laser stores and drops lasers that left the screen; lasers stay SoA rather than entities
+class LaserSystem extends EntitySystem {
+
+    private final GameWorld world;
+
+    LaserSystem(GameWorld world, int priority) {
+        super(priority);
+        this.world = world;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        world.profiler.begin(FrameProfiler.LASERS);
+        world.playerLaserList.update(deltaTime);
+        world.playerLaserList.cull(0, WORLD_HEIGHT);
+        world.enemyLaserList.update(deltaTime);
+        world.enemyLaserList.cull(0, WORLD_HEIGHT);
+        world.profiler.end(FrameProfiler.LASERS);
+    }
+}
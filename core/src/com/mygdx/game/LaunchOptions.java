@@ -0,0 +1,64 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+//command line switches of the windowed game
+public class LaunchOptions {
+
+    static final String LAST_SESSION = "last-session.replay";
+
+    //ramps enemies until the frame budget is spent instead of playing the waves, see StressTest
+    boolean stress = false;
+    //plays a recording back on screen instead of reading the keyboard
+    String replayFile = null;
+    //every played session is recorded, the next one overwrites it unless given another file; replays are not
+    String recordFile = LAST_SESSION;
+    //frames per second the window is limited to
+    int fps = 60;
+    //frame time the quality governor keeps to, 0 for a whole frame at fps
+    float budgetMillis = 0;
+    //pins a QualityGovernor level, 0 is full quality; below 0 the governor adapts it
+    int quality = -1;
+
+    //--stress, --replay <file>, --record <file>, --fps <n>, --budget <ms>, --quality <level>
+    public static LaunchOptions parse(String[] arg) {
+        LaunchOptions options = new LaunchOptions();
+        for (int i = 0; i < arg.length; i++) {
+            if (arg[i].equals("--stress")) {
+                options.stress = true;
+            }
+            else if (arg[i].equals("--replay") && i + 1 < arg.length) {
+                options.replayFile = arg[++i];
+            }
+            else if (arg[i].equals("--record") && i + 1 < arg.length) {
+                options.recordFile = arg[++i];
+            }
+            else if (arg[i].equals("--fps") && i + 1 < arg.length) {
+                options.fps = (int)number(arg[i], arg[++i], 1);
+            }
+            else if (arg[i].equals("--budget") && i + 1 < arg.length) {
+                options.budgetMillis = number(arg[i], arg[++i], 0);
+            }
+            else if (arg[i].equals("--quality") && i + 1 < arg.length) {
+                options.quality = (int)number(arg[i], arg[++i], 0);
+            }
+            else {
+                throw new GdxRuntimeException("unknown option " + arg[i]);
+            }
+        }
+        return options;
+    }
+
+    float getBudgetMillis() {
+        return budgetMillis > 0 ? budgetMillis : 1000f / fps;
+    }
+
+    private static float number(String option, String value, float min) {
+        try {
+            float number = Float.parseFloat(value);
+            if (number >= min) return number;
+        } catch (NumberFormatException ignored) {
+        }
+        throw new GdxRuntimeException(option + " expects a number of at least " + min + ", got " + value);
+    }
+}
@@ -4,25 +4,57 @@ import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.RandomXS128;
 import com.badlogic.gdx.utils.ScreenUtils;
 
-import java.util.Random;
-
 public class Launcher extends Game {
 
+	Assets assets;
+	LoadingScreen loadingScreen;
 	GameScreen gameScreen;
 
-    public static Random random = new Random();
+    //the spawner's stream; xorshift so its state can be saved with the world
+    public static RandomXS128 random = new RandomXS128();
+
+	private final LaunchOptions options;
+
+	//what the game itself holds; every screen keeps a registry of its own and empties it in dispose
+	private final ResourceRegistry resources = new ResourceRegistry("Launcher");
+
+	public Launcher() {
+		this(new LaunchOptions());
+	}
+
+	public Launcher(LaunchOptions options) {
+		this.options = options;
+	}
 
 	@Override
 	public void create() {
-		gameScreen = new GameScreen();
+		assets = resources.add(new Assets(), "assets", 0);
+		loadingScreen = new LoadingScreen(this, assets);
+		setScreen(loadingScreen);
+	}
+
+	//called by the loading screen once every asset is in memory
+	void startGame() {
+		resources.setEstimatedBytes(assets, assets.estimateBytes());
+		gameScreen = new GameScreen(assets, options);
 		setScreen(gameScreen);
+		loadingScreen.dispose();
+		loadingScreen = null;
 	}
 
 	@Override
 	public void dispose() {
-		gameScreen.dispose();
+		if (loadingScreen != null) {
+			loadingScreen.dispose();
+		}
+		if (gameScreen != null) {
+			gameScreen.dispose();
+		}
+		resources.dispose();
+		ResourceRegistry.logShutdownReport();
 	}
 
 	@Override
@@ -32,6 +64,6 @@ public class Launcher extends Game {
 
 	@Override
 	public void resize(int width, int height) {
-		gameScreen.resize(width, height);
+		super.resize(width, height);
 	}
 }
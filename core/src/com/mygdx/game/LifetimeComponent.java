@@ -0,0 +1,24 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+//entities that remove themselves once their time is up, through an EXPIRE timer
+class LifetimeComponent implements Component, Pool.Poolable {
+
+    long startTick;
+    float duration;
+    int expiryTimer = -1;
+
+    //0 when created, 1 when the expiry timer fires
+    float progress(long currentTick) {
+        return Math.min(1, (currentTick - startTick) * GameWorld.SIMULATION_TICK / duration);
+    }
+
+    @Override
+    public void reset() {
+        startTick = 0;
+        duration = 0;
+        expiryTimer = -1;
+    }
+}
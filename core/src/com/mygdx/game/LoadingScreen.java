@@ -0,0 +1,68 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.ScreenAdapter;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.ScreenUtils;
+
+//shown while the AssetManager loads in slices, hands over to the GameScreen when done
+class LoadingScreen extends ScreenAdapter {
+
+    private final int LOAD_SLICE_MILLIS = 12; //leaves room in a 60 Hz frame for drawing the bar
+    private final int MAX_SHAPE_VERTICES = 5000; //ShapeRenderer's default
+
+    private final Launcher game;
+    private final Assets assets;
+    private final long startNanos;
+    private boolean queued = false;
+
+    private final ResourceRegistry resources = new ResourceRegistry("LoadingScreen");
+    private ShapeRenderer shapeRenderer;
+
+    LoadingScreen(Launcher game, Assets assets) {
+        this.game = game;
+        this.assets = assets;
+        startNanos = System.nanoTime();
+        shapeRenderer = resources.add(new ShapeRenderer(MAX_SHAPE_VERTICES), "shapeRenderer",
+                ResourceRegistry.shapeRendererBytes(MAX_SHAPE_VERTICES));
+    }
+
+    @Override
+    public void render(float deltaTime) {
+        if (!queued) {
+            //queue on the first frame, so the window shows something before any decoding starts
+            Gdx.app.log("LoadingScreen", "first frame after " + millisSince(startNanos) + " ms");
+            assets.queue();
+            queued = true;
+        }
+        else if (assets.update(LOAD_SLICE_MILLIS)) {
+            Gdx.app.log("LoadingScreen", "assets loaded after " + millisSince(startNanos) + " ms");
+            game.startGame();
+            return;
+        }
+
+        ScreenUtils.clear(Color.BLACK);
+        float width = Gdx.graphics.getWidth(), height = Gdx.graphics.getHeight();
+        shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+        shapeRenderer.setColor(Color.DARK_GRAY);
+        shapeRenderer.rect(width * 0.1f, height * 0.5f, width * 0.8f, height * 0.02f);
+        shapeRenderer.setColor(Color.ORANGE);
+        shapeRenderer.rect(width * 0.1f, height * 0.5f, width * 0.8f * assets.getProgress(), height * 0.02f);
+        shapeRenderer.end();
+    }
+
+    @Override
+    public void resize(int width, int height) {
+        shapeRenderer.getProjectionMatrix().setToOrtho2D(0, 0, width, height);
+    }
+
+    @Override
+    public void dispose() {
+        resources.dispose();
+    }
+
+    private static long millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1000000;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mygdx.game;
+
+//in-place sorting of primitive longs; unlike Arrays.sort it never allocates a merge buffer
+final class LongSort {
+
+    private LongSort() {
+    }
+
+    //ascending input, the common case for queues filled in order, costs one pass
+    static void sort(long[] values, int count) {
+        for (int i = 1; i < count; i++) {
+            if (values[i - 1] > values[i]) {
+                heapSort(values, count);
+                return;
+            }
+        }
+    }
+
+    static void heapSort(long[] values, int count) {
+        for (int i = count / 2 - 1; i >= 0; i--) {
+            siftDown(values, i, count);
+        }
+        for (int end = count - 1; end > 0; end--) {
+            long top = values[0];
+            values[0] = values[end];
+            values[end] = top;
+            siftDown(values, 0, end);
+        }
+    }
+
+    private static void siftDown(long[] values, int root, int count) {
+        while (true) {
+            int child = root * 2 + 1;
+            if (child >= count) return;
+            if (child + 1 < count && values[child + 1] > values[child]) child++;
+            if (values[root] >= values[child]) return;
+            long swap = values[root];
+            values[root] = values[child];
+            values[child] = swap;
+            root = child;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.ComponentMapper;
+
+//component lookups shared by the systems
+final class Mappers {
+
+    static final ComponentMapper<TransformComponent> transform = ComponentMapper.getFor(TransformComponent.class);
+    static final ComponentMapper<VelocityComponent> velocity = ComponentMapper.getFor(VelocityComponent.class);
+    static final ComponentMapper<WeaponComponent> weapon = ComponentMapper.getFor(WeaponComponent.class);
+    static final ComponentMapper<ShieldComponent> shield = ComponentMapper.getFor(ShieldComponent.class);
+    static final ComponentMapper<SpriteComponent> sprite = ComponentMapper.getFor(SpriteComponent.class);
+    static final ComponentMapper<LifetimeComponent> lifetime = ComponentMapper.getFor(LifetimeComponent.class);
+    static final ComponentMapper<PlayerComponent> player = ComponentMapper.getFor(PlayerComponent.class);
+    static final ComponentMapper<ExplosionComponent> explosion = ComponentMapper.getFor(ExplosionComponent.class);
+    static final ComponentMapper<NetworkIdComponent> networkId = ComponentMapper.getFor(NetworkIdComponent.class);
+
+    private Mappers() {
+    }
+}
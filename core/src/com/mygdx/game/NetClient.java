@@ -0,0 +1,133 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.util.Random;
+
+//a remote player: sends its input every tick and rebuilds the world from NetServer snapshots,
+//acknowledging the newest one it could decode so the server can delta against it
+class NetClient implements Disposable {
+
+    private final DatagramChannel channel;
+    private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(NetServer.INPUT_BYTES + NetServer.TOUCH_BYTES);
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(NetServer.MAX_DATAGRAM_BYTES);
+
+    private final Snapshot[] history = new Snapshot[NetServer.HISTORY];
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private int latest = -1;
+    private int playerId = -1;
+    private int inputSequence = 0;
+
+    long bytesReceived, snapshotsReceived;
+    long snapshotsDropped; //lost on purpose, late, malformed or against a base that is gone
+
+    //share of snapshots thrown away on arrival, to exercise the acknowledgements on a loopback
+    float simulatedLoss = 0;
+    private final Random lossRandom = new Random(1);
+
+    NetClient(InetSocketAddress server) {
+        for (int i = 0; i < history.length; i++) {
+            history[i] = new Snapshot();
+        }
+        try {
+            channel = DatagramChannel.open();
+            channel.configureBlocking(false);
+            channel.connect(server);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not reach " + server, e);
+        }
+    }
+
+    void send(PlayerInput input) {
+        int flags = (input.left ? InputRecorder.LEFT : 0) | (input.right ? InputRecorder.RIGHT : 0)
+                | (input.up ? InputRecorder.UP : 0) | (input.down ? InputRecorder.DOWN : 0)
+                | (input.touched ? InputRecorder.TOUCHED : 0);
+        sendBuffer.clear();
+        sendBuffer.put(NetServer.INPUT).putInt(latest).putInt(inputSequence++).put((byte)flags);
+        if (input.touched) {
+            sendBuffer.putShort(quantiseTouch(input.touchX)).putShort(quantiseTouch(input.touchY));
+        }
+        sendBuffer.flip();
+        try {
+            channel.write(sendBuffer);
+        } catch (IOException e) {
+            //e.g. the server is not up yet, the next tick sends again
+        }
+    }
+
+    //drains the socket, returns how many snapshots were decoded
+    int receive() {
+        int decoded = 0;
+        while (true) {
+            receiveBuffer.clear();
+            int bytes;
+            try {
+                bytes = channel.read(receiveBuffer);
+            } catch (IOException e) {
+                return decoded;
+            }
+            if (bytes <= 0) return decoded;
+            bytesReceived += bytes;
+            receiveBuffer.flip();
+            if (decode()) decoded++;
+            else snapshotsDropped++;
+        }
+    }
+
+    //null until the first snapshot arrived
+    Snapshot getLatest() {
+        return latest < 0 ? null : history[latest % NetServer.HISTORY];
+    }
+
+    //network id of this client's ship in the snapshots
+    int getPlayerId() {
+        return playerId;
+    }
+
+    private boolean decode() {
+        if (receiveBuffer.remaining() < NetServer.SNAPSHOT_HEADER_BYTES || receiveBuffer.get() != NetServer.SNAPSHOT) {
+            return false;
+        }
+        if (simulatedLoss > 0 && lossRandom.nextFloat() < simulatedLoss) return false;
+        int sequence = receiveBuffer.getInt();
+        int baseSequence = receiveBuffer.getInt();
+        int shipId = receiveBuffer.getInt();
+        if (sequence <= latest) return false;
+
+        Snapshot base = null;
+        if (baseSequence >= 0) {
+            base = history[baseSequence % NetServer.HISTORY];
+            if (base.sequence != baseSequence) return false;
+        }
+        Snapshot snapshot = history[sequence % NetServer.HISTORY];
+        try {
+            codec.decode(receiveBuffer, base, snapshot, sequence);
+        } catch (BufferUnderflowException e) {
+            snapshot.sequence = -1;
+            return false;
+        }
+        latest = sequence;
+        playerId = shipId;
+        snapshotsReceived++;
+        return true;
+    }
+
+    private static short quantiseTouch(float position) {
+        return (short)Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, Snapshot.quantise(position)));
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+}
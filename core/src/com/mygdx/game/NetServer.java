@@ -0,0 +1,258 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.PortUnreachableException;
+import java.net.SocketAddress;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
+
+//runs the world authoritatively for up to maxPlayers clients on one non-blocking DatagramChannel: every tick drains
+//the socket, then steps the world; every few ticks each client gets a snapshot delta-encoded against the newest one
+//it acknowledged. A client joins by sending input and leaves by going quiet, its ship stays for the next one
+class NetServer implements Disposable {
+
+    //packets start with a type byte
+    //INPUT: int acknowledged snapshot (-1 for none), int input sequence, a byte of flags as in InputRecorder,
+    //       then while touching the touch position as two quantised shorts
+    //SNAPSHOT: int sequence, int base sequence (-1 for none), int network id of the receiver's ship, then SnapshotCodec
+    static final byte INPUT = 1, SNAPSHOT = 2;
+    static final int INPUT_BYTES = 1 + 4 + 4 + 1, TOUCH_BYTES = 2 + 2;
+    static final int SNAPSHOT_HEADER_BYTES = 1 + 4 + 4 + 4;
+
+    static final int MAX_DATAGRAM_BYTES = 65507;
+    static final int SNAPSHOT_INTERVAL_TICKS = 6; //20 snapshots a second
+    static final int HISTORY = 64; //snapshots kept as delta bases, about three seconds
+
+    private static final int CLIENT_TIMEOUT_TICKS = Math.round(5 / GameWorld.SIMULATION_TICK);
+
+    //one per player slot
+    private static final class Client {
+        SocketAddress address; //null while the slot is free
+        Entity ship;
+        final PlayerInput input = new PlayerInput();
+        int lastInputSequence;
+        int acknowledged;
+        long lastHeardTick;
+        long bytesSent, snapshotsSent;
+    }
+
+    final GameWorld world;
+    private final DatagramChannel channel;
+    private final Client[] clients;
+    private final ByteBuffer receiveBuffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_BYTES);
+    private final ByteBuffer sendBuffer = ByteBuffer.allocateDirect(MAX_DATAGRAM_BYTES);
+
+    private final Snapshot[] history = new Snapshot[HISTORY];
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private int sequence = -1;
+
+    //trouble worth counting, the server keeps running through all of it
+    long rejectedPackets; //malformed, or from a new address while every slot is taken
+    long oversizedSnapshots; //did not fit a datagram, the client waits for the next one
+    long unsentSnapshots; //the socket buffer was full
+
+    NetServer(GameWorld world, InetSocketAddress address, int maxPlayers) {
+        this.world = world;
+        clients = new Client[maxPlayers];
+        for (int i = 0; i < maxPlayers; i++) {
+            clients[i] = new Client();
+        }
+        //the world's own player is the first slot
+        clients[0].ship = world.playerShip;
+        for (int i = 0; i < HISTORY; i++) {
+            history[i] = new Snapshot();
+        }
+        try {
+            channel = DatagramChannel.open();
+            channel.configureBlocking(false);
+            channel.bind(address);
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not listen on " + address, e);
+        }
+    }
+
+    InetSocketAddress getLocalAddress() {
+        try {
+            return (InetSocketAddress)channel.getLocalAddress();
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+
+    void tick() {
+        world.profiler.begin(FrameProfiler.NETWORK);
+        receive();
+        world.profiler.end(FrameProfiler.NETWORK);
+
+        world.update(GameWorld.SIMULATION_TICK, clients[0].input);
+        expireClients();
+
+        if (world.getTickCount() % SNAPSHOT_INTERVAL_TICKS == 0) {
+            world.profiler.begin(FrameProfiler.NETWORK);
+            broadcast();
+            world.profiler.end(FrameProfiler.NETWORK);
+        }
+    }
+
+    int getClientCount() {
+        int count = 0;
+        for (Client client : clients) {
+            if (client.address != null) count++;
+        }
+        return count;
+    }
+
+    long getBytesSent(int slot) {
+        return clients[slot].bytesSent;
+    }
+
+    long getSnapshotsSent(int slot) {
+        return clients[slot].snapshotsSent;
+    }
+
+    //what was sent with the given sequence, while it is still in the history
+    Snapshot getSnapshot(int sequence) {
+        Snapshot snapshot = history[sequence % HISTORY];
+        return snapshot.sequence == sequence ? snapshot : null;
+    }
+
+    private void receive() {
+        while (true) {
+            receiveBuffer.clear();
+            SocketAddress from;
+            try {
+                from = channel.receive(receiveBuffer);
+            } catch (PortUnreachableException e) {
+                //an ICMP port unreachable from a client that closed, the next read goes on
+                continue;
+            } catch (IOException e) {
+                //e.g. the channel was closed by dispose, retrying would fail the same way forever
+                throw new GdxRuntimeException("could not receive", e);
+            }
+            if (from == null) return;
+            receiveBuffer.flip();
+            if (receiveBuffer.remaining() < INPUT_BYTES || receiveBuffer.get() != INPUT) {
+                rejectedPackets++;
+                continue;
+            }
+            int acknowledged = receiveBuffer.getInt();
+            int inputSequence = receiveBuffer.getInt();
+            int flags = receiveBuffer.get();
+            boolean touched = (flags & InputRecorder.TOUCHED) != 0;
+            if (touched && receiveBuffer.remaining() < TOUCH_BYTES) {
+                rejectedPackets++;
+                continue;
+            }
+            //only a well-formed packet may take a slot, and with it a ship
+            Client client = clientFor(from);
+            if (client == null) {
+                rejectedPackets++;
+                continue;
+            }
+
+            client.lastHeardTick = world.getTickCount();
+            if (acknowledged > client.acknowledged && acknowledged <= sequence) {
+                client.acknowledged = acknowledged;
+            }
+            //input is a state, not an event, so only the newest one matters and late ones are dropped
+            if (inputSequence <= client.lastInputSequence) continue;
+            client.lastInputSequence = inputSequence;
+            PlayerInput input = client.input;
+            input.left = (flags & InputRecorder.LEFT) != 0;
+            input.right = (flags & InputRecorder.RIGHT) != 0;
+            input.up = (flags & InputRecorder.UP) != 0;
+            input.down = (flags & InputRecorder.DOWN) != 0;
+            input.touched = touched;
+            input.touchX = touched ? receiveBuffer.getShort() / Snapshot.POSITION_SCALE : 0;
+            input.touchY = touched ? receiveBuffer.getShort() / Snapshot.POSITION_SCALE : 0;
+        }
+    }
+
+    //the client sending from this address, or a free slot for it, null if the server is full
+    private Client clientFor(SocketAddress address) {
+        Client free = null;
+        for (Client client : clients) {
+            if (address.equals(client.address)) return client;
+            if (free == null && client.address == null) free = client;
+        }
+        if (free == null) return null;
+
+        free.address = address;
+        free.lastHeardTick = world.getTickCount();
+        free.lastInputSequence = -1;
+        free.acknowledged = -1;
+        free.input.clear();
+        if (free.ship == null) {
+            int slot = indexOf(free);
+            free.ship = world.addPlayerShip((float)WORLD_WIDHTH * (slot + 1) / (clients.length + 1), free.input);
+        }
+        return free;
+    }
+
+    private int indexOf(Client client) {
+        for (int i = 0; i < clients.length; i++) {
+            if (clients[i] == client) return i;
+        }
+        return -1;
+    }
+
+    private void expireClients() {
+        for (Client client : clients) {
+            if (client.address != null && world.getTickCount() - client.lastHeardTick > CLIENT_TIMEOUT_TICKS) {
+                client.address = null;
+                client.input.clear();
+            }
+        }
+    }
+
+    private void broadcast() {
+        sequence++;
+        Snapshot snapshot = history[sequence % HISTORY];
+        snapshot.capture(world, sequence);
+
+        for (Client client : clients) {
+            if (client.address == null) continue;
+            Snapshot base = client.acknowledged < 0 ? null : getSnapshot(client.acknowledged);
+
+            sendBuffer.clear();
+            try {
+                sendBuffer.put(SNAPSHOT).putInt(sequence).putInt(base == null ? -1 : base.sequence)
+                        .putInt(Mappers.networkId.get(client.ship).id);
+                codec.encode(snapshot, base, sendBuffer);
+            } catch (BufferOverflowException e) {
+                oversizedSnapshots++;
+                continue;
+            }
+            sendBuffer.flip();
+            int bytes = sendBuffer.remaining();
+            try {
+                if (channel.send(sendBuffer, client.address) == 0) {
+                    unsentSnapshots++;
+                    continue;
+                }
+            } catch (IOException e) {
+                unsentSnapshots++;
+                continue;
+            }
+            client.bytesSent += bytes;
+            client.snapshotsSent++;
+        }
+    }
+
+    @Override
+    public void dispose() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new GdxRuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+//identifies an entity in snapshots; ids are never reused, so a client can tell a new ship from one that moved
+class NetworkIdComponent implements Component, Pool.Poolable {
+
+    int id;
+
+    @Override
+    public void reset() {
+        id = 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.mygdx.game;
+
+//live particles as parallel primitive arrays with a hard cap; nothing grows, particles past the cap are dropped
+class ParticleBuffer {
+
+    final int capacity;
+
+    //position and motion
+    final float[] x, y;
+    final float[] previousX, previousY; //at the start of the current tick, for interpolation
+    final float[] velocityX, velocityY;
+
+    //seconds lived and seconds to live
+    final float[] age, lifetime;
+    final float[] size;
+
+    int count;
+    long dropped; //particles that did not fit, in total
+
+    ParticleBuffer(int capacity) {
+        this.capacity = capacity;
+        x = new float[capacity];
+        y = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        velocityX = new float[capacity];
+        velocityY = new float[capacity];
+        age = new float[capacity];
+        lifetime = new float[capacity];
+        size = new float[capacity];
+    }
+
+    //returns false if the buffer is full
+    boolean add(float xCentre, float yCentre, float xVelocity, float yVelocity, float particleLifetime, float particleSize) {
+        if (count == capacity) {
+            dropped++;
+            return false;
+        }
+        int index = count++;
+        x[index] = previousX[index] = xCentre;
+        y[index] = previousY[index] = yCentre;
+        velocityX[index] = xVelocity;
+        velocityY[index] = yVelocity;
+        age[index] = 0;
+        lifetime[index] = particleLifetime;
+        size[index] = particleSize;
+        return true;
+    }
+
+    //removes by moving the last particle into the hole, so the order is not kept
+    void removeIndex(int index) {
+        int last = --count;
+        x[index] = x[last];
+        y[index] = y[last];
+        previousX[index] = previousX[last];
+        previousY[index] = previousY[last];
+        velocityX[index] = velocityX[last];
+        velocityY[index] = velocityY[last];
+        age[index] = age[last];
+        lifetime[index] = lifetime[last];
+        size[index] = size[last];
+    }
+
+    void clear() {
+        count = 0;
+    }
+
+    //ages, drops the expired, then moves; damping is the share of velocity kept this tick
+    void update(float deltaTime, float damping) {
+        for (int i = 0; i < count; i++) {
+            age[i] += deltaTime;
+            if (age[i] >= lifetime[i]) {
+                removeIndex(i--);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            previousX[i] = x[i];
+            previousY[i] = y[i];
+            x[i] += velocityX[i] * deltaTime;
+            y[i] += velocityY[i] * deltaTime;
+            velocityX[i] *= damping;
+            velocityY[i] *= damping;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
+
+//explosion sparks: pooled emitters feed a capped ParticleBuffer during the tick, the screen submits what is alive;
+//runs the same headless, only the drawing needs textures
+class ParticleSystem extends EntitySystem {
+
+    static final int SPARK_FRAMES = 8;
+
+    private final float DRAG = 0.15f; //share of its velocity a spark keeps after one second
+    private final float PARTICLES_PER_AREA = 0.2f; //per tick, per square world unit of the exploding ship
+    private final float EMISSION_SHARE = 1 / 8f; //of the explosion's duration
+
+    //a burst of sparks over a few ticks, returned to the pool when it is done
+    static class Emitter implements Pool.Poolable {
+        float x, y, width, height;
+        int ticksLeft, particlesPerTick;
+        float speed, lifetime, size;
+
+        @Override
+        public void reset() {
+            ticksLeft = 0;
+        }
+    }
+
+    private final GameWorld world;
+    final ParticleBuffer particles;
+    private final Array<Emitter> emitters = new Array<>(false, 64);
+    private final Pool<Emitter> emitterPool = new Pool<Emitter>(64) {
+        @Override
+        protected Emitter newObject() {
+            return new Emitter();
+        }
+    };
+
+    //sparks never feed back into the game, so they get their own stream and leave Launcher.random alone
+    private final RandomXS128 random = new RandomXS128(1);
+
+    //graphics, hottest first, null when headless
+    TextureRegion[] sparkRegions;
+
+    ParticleSystem(GameWorld world, int priority, int maxParticles, Array<? extends TextureRegion> explosionFrames) {
+        super(priority);
+        this.world = world;
+        particles = new ParticleBuffer(maxParticles);
+        sparkRegions = createSparkRegions(explosionFrames);
+    }
+
+    //the solid middle of the first explosion frames, white-yellow down to dark red
+    static TextureRegion[] createSparkRegions(Array<? extends TextureRegion> explosionFrames) {
+        if (explosionFrames == null) {
+            return null;
+        }
+        TextureRegion[] regions = new TextureRegion[SPARK_FRAMES];
+        for (int i = 0; i < SPARK_FRAMES; i++) {
+            regions[i] = new TextureRegion(explosionFrames.get(i + 1), 28, 28, 8, 8);
+        }
+        return regions;
+    }
+
+    void emitExplosion(Rectangle boundingBox, float totalAnimationTime) {
+        Emitter emitter = emitterPool.obtain();
+        emitter.x = boundingBox.x;
+        emitter.y = boundingBox.y;
+        emitter.width = boundingBox.width;
+        emitter.height = boundingBox.height;
+        emitter.ticksLeft = TimerSystem.ticks(totalAnimationTime * EMISSION_SHARE);
+        emitter.particlesPerTick = Math.max(1, (int)(boundingBox.area() * PARTICLES_PER_AREA));
+        emitter.speed = boundingBox.width * 2;
+        emitter.lifetime = totalAnimationTime;
+        emitter.size = boundingBox.width / 8;
+        emitters.add(emitter);
+    }
+
+    //every emitter back to the pool and every particle gone
+    void clear() {
+        emitterPool.freeAll(emitters);
+        emitters.clear();
+        particles.clear();
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        world.profiler.begin(FrameProfiler.PARTICLES);
+        for (int i = emitters.size - 1; i >= 0; i--) {
+            Emitter emitter = emitters.get(i);
+            emit(emitter);
+            if (--emitter.ticksLeft <= 0) {
+                emitters.removeIndex(i);
+                emitterPool.free(emitter);
+            }
+        }
+        particles.update(deltaTime, (float)Math.pow(DRAG, deltaTime));
+        world.profiler.end(FrameProfiler.PARTICLES);
+    }
+
+    private void emit(Emitter emitter) {
+        for (int i = 0; i < emitter.particlesPerTick; i++) {
+            if (particles.count == particles.capacity) {
+                particles.dropped += emitter.particlesPerTick - i;
+                return;
+            }
+            float angle = random.nextFloat() * MathUtils.PI2;
+            float speed = emitter.speed * (0.3f + 0.7f * random.nextFloat());
+            particles.add(emitter.x + random.nextFloat() * emitter.width,
+                    emitter.y + random.nextFloat() * emitter.height,
+                    MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed,
+                    emitter.lifetime * (0.4f + 0.5f * random.nextFloat()),
+                    emitter.size * (0.5f + random.nextFloat()));
+        }
+    }
+
+    //alpha is how far the frame is between the previous and the current tick; sparks shrink and cool as they age
+    void submit(RenderQueue queue, float alpha) {
+        if (sparkRegions == null) return;
+        ParticleBuffer p = particles;
+        for (int i = 0; i < p.count; i++) {
+            float progress = p.age[i] / p.lifetime[i];
+            float size = p.size[i] * (1 - progress);
+            float x = p.previousX[i] + (p.x[i] - p.previousX[i]) * alpha;
+            float y = p.previousY[i] + (p.y[i] - p.previousY[i]) * alpha;
+            queue.add(sparkRegions[Math.min(SPARK_FRAMES - 1, (int)(progress * SPARK_FRAMES))],
+                    x - size / 2, y - size / 2, size, size, RenderQueue.PARTICLES);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+//marks a ship steered by a PlayerInput, the local one or a remote player's
+class PlayerComponent implements Component, Pool.Poolable {
+
+    int lives;
+    PlayerInput input;
+
+    @Override
+    public void reset() {
+        lives = 0;
+        input = null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
+
+//moves each player ship from its keys or towards its touch point, within the lower half of the screen
+class PlayerControlSystem extends IteratingSystem {
+
+    private final float TOUCH_MOVEMENT_THRESHOLD = 0.5f;
+
+    private final GameWorld world;
+
+    PlayerControlSystem(GameWorld world, int priority) {
+        super(Family.all(PlayerComponent.class, TransformComponent.class, VelocityComponent.class).get(), priority);
+        this.world = world;
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        world.profiler.begin(FrameProfiler.INPUT);
+        super.update(deltaTime);
+        world.profiler.end(FrameProfiler.INPUT);
+    }
+
+    @Override
+    protected void processEntity(Entity entity, float deltaTime) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        float movementSpeed = Mappers.velocity.get(entity).movementSpeed;
+        PlayerInput input = Mappers.player.get(entity).input;
+
+        transform.savePreviousPosition();
+        if (input == null) return;
+
+        //keyboard input
+        float leftLimit, rightLimit, upLimit, downLimit;
+        leftLimit = -transform.boundingBox.x;
+        rightLimit = WORLD_WIDHTH - transform.boundingBox.x - transform.boundingBox.width;
+        downLimit = -transform.boundingBox.y;
+        upLimit = (float)WORLD_HEIGHT/2 - transform.boundingBox.y - transform.boundingBox.height;
+
+        if (input.right && rightLimit > 0) {
+            transform.translate(Math.min(movementSpeed * deltaTime, rightLimit), 0f);
+        }
+        if (input.up && upLimit > 0) {
+            transform.translate(0f, Math.min(movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH, upLimit));
+        }
+        if (input.left && leftLimit < 0) {
+            transform.translate(Math.max(-movementSpeed * deltaTime, leftLimit), 0f);
+        }
+        if (input.down && downLimit < 0) {
+            transform.translate(0f, Math.max(-movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH, downLimit));
+        }
+
+        //touch input (mouse)
+        if (input.touched) {
+            //calculate the x and y differences
+            float playerShipCentreX = transform.boundingBox.x + transform.boundingBox.width/2;
+            float playerShipCentreY = transform.boundingBox.y + transform.boundingBox.height/2;
+            float xTouchDifference = input.touchX - playerShipCentreX;
+            float yTouchDifference = input.touchY - playerShipCentreY;
+            float touchDistance = (float)Math.sqrt(xTouchDifference * xTouchDifference
+                    + yTouchDifference * yTouchDifference);
+
+            if (touchDistance > TOUCH_MOVEMENT_THRESHOLD) {
+                //scale to the maximum speed of the ship
+                float xMove = xTouchDifference / touchDistance *
+                        movementSpeed * deltaTime;
+                float yMove = yTouchDifference / touchDistance *
+                        movementSpeed * deltaTime * WORLD_HEIGHT/WORLD_WIDHTH;
+
+                if (xMove > 0) xMove = Math.min(xMove, rightLimit);
+                else xMove = Math.max(xMove, leftLimit);
+
+                if (yMove > 0) yMove = Math.min(yMove, upLimit);
+                else yMove = Math.max(yMove, downLimit);
+
+                transform.translate(xMove, yMove);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.mygdx.game;
+
+//input state for one simulation tick, in world coordinates
+class PlayerInput {
+
+    boolean left, right, up, down;
+
+    boolean touched;
+    float touchX, touchY;
+
+    //live enemy lasers the weapons may keep up, 0 for no limit; the quality governor sets it, and since it
+    //changes what is simulated it is recorded and replayed like the keys
+    int laserCap;
+
+    public void clear() {
+        left = right = up = down = false;
+        touched = false;
+        touchX = touchY = 0;
+        laserCap = 0;
+    }
+}
@@ -0,0 +1,108 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.StringBuilder;
+
+//screen-space text summary of a FrameProfiler, refreshed a few times per second
+class ProfilerOverlay implements Disposable {
+
+    private final float REFRESH_INTERVAL = 0.5f;
+
+    private final FrameProfiler profiler;
+    private final BitmapFont font;
+    private final Matrix4 projection = new Matrix4();
+    private final StringBuilder text = new StringBuilder(1024);
+    private float timeSinceRefresh = REFRESH_INTERVAL;
+    private int height;
+
+    boolean visible = false;
+
+    ProfilerOverlay(FrameProfiler profiler) {
+        this.profiler = profiler;
+        this.font = new BitmapFont();
+    }
+
+    //the default font's page, for the ResourceRegistry
+    long estimateBytes() {
+        return ResourceRegistry.fontBytes(font);
+    }
+
+    public void resize(int width, int height) {
+        this.height = height;
+        projection.setToOrtho2D(0, 0, width, height);
+    }
+
+    public void draw(Batch batch, float deltaTime) {
+        if (!visible) return;
+
+        timeSinceRefresh += deltaTime;
+        if (timeSinceRefresh >= REFRESH_INTERVAL) {
+            refresh();
+            timeSinceRefresh = 0;
+        }
+
+        Matrix4 worldProjection = batch.getProjectionMatrix();
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        font.draw(batch, text, 8, height - 8);
+        batch.end();
+        batch.setProjectionMatrix(worldProjection);
+    }
+
+    private void refresh() {
+        text.setLength(0);
+        text.append("last ").append(profiler.getSampleCount()).append(" frames, ms p50 / p95 / p99\n");
+        text.append("frame  ");
+        appendPercentiles(profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 50),
+                profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 95),
+                profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 99));
+        for (int phase = 0; phase < FrameProfiler.PHASE_COUNT; phase++) {
+            text.append(FrameProfiler.PHASE_NAMES[phase]).append("  ");
+            appendPercentiles(profiler.phasePercentile(phase, 50),
+                    profiler.phasePercentile(phase, 95),
+                    profiler.phasePercentile(phase, 99));
+        }
+        text.append("enemies ").append(profiler.getLastCounter(FrameProfiler.ENEMY_SHIPS))
+                .append("  lasers ").append(profiler.getLastCounter(FrameProfiler.PLAYER_LASERS))
+                .append(" / ").append(profiler.getLastCounter(FrameProfiler.ENEMY_LASERS))
+                .append("  explosions ").append(profiler.getLastCounter(FrameProfiler.EXPLOSION_COUNT)).append('\n');
+        text.append("particles ").append(profiler.getLastCounter(FrameProfiler.LIVE_PARTICLES))
+                .append("  dropped ").append(profiler.getLastCounter(FrameProfiler.DROPPED_PARTICLES)).append('\n');
+        text.append("render calls ").append(profiler.getLastCounter(FrameProfiler.RENDER_CALLS))
+                .append("  total ").append(profiler.getLastCounter(FrameProfiler.TOTAL_RENDER_CALLS)).append('\n');
+        text.append("texture binds ").append(profiler.getLastCounter(FrameProfiler.TEXTURE_BINDS))
+                .append("  sprites ").append(profiler.getLastCounter(FrameProfiler.SPRITE_TEXTURE_BINDS))
+                .append("  quality level ").append(profiler.getLastCounter(FrameProfiler.QUALITY_LEVEL)).append('\n');
+        text.append("sprites queued ").append(profiler.getLastCounter(FrameProfiler.QUEUED_SPRITES))
+                .append("  culled ").append(profiler.getLastCounter(FrameProfiler.CULLED_SPRITES)).append('\n');
+        text.append("allocated bytes/frame p50 ").append(profiler.counterPercentile(FrameProfiler.ALLOCATED_BYTES, 50))
+                .append("  p99 ").append(profiler.counterPercentile(FrameProfiler.ALLOCATED_BYTES, 99));
+    }
+
+    private void appendPercentiles(long p50, long p95, long p99) {
+        appendMillis(p50);
+        text.append(" / ");
+        appendMillis(p95);
+        text.append(" / ");
+        appendMillis(p99);
+        text.append('\n');
+    }
+
+    //nanoseconds as milliseconds with three decimals, without going through Float.toString
+    private void appendMillis(long nanos) {
+        long micros = nanos / 1000;
+        text.append(micros / 1000).append('.');
+        long fraction = micros % 1000;
+        if (fraction < 100) text.append('0');
+        if (fraction < 10) text.append('0');
+        text.append(fraction);
+    }
+
+    @Override
+    public void dispose() {
+        font.dispose();
+    }
+}
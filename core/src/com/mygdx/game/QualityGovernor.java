@@ -0,0 +1,102 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+
+//watches the frame time against a budget and steps the graphics quality down while frames overrun it, back up
+//once they have plenty of room again; the two thresholds and the longer wait to step up keep it from flapping
+class QualityGovernor {
+
+    //per level, full quality first
+    static final int LEVEL_COUNT = 4;
+    static final int[] BACKGROUND_LAYERS = {4, 3, 2, 1};
+    static final boolean[] SPARKS = {true, true, false, false};
+    static final int[] EXPLOSION_STRIDE = {1, 1, 2, 2}; //each explosion is drawn every stride-th frame
+    static final float[] HUD_REFRESH_SECONDS = {0, 0.1f, 0.1f, 0.25f};
+    static final int[] LASER_CAP = {0, 0, 400, 200}; //live enemy lasers, 0 for no limit
+
+    //a window of frames is judged at once
+    static final int WINDOW_FRAMES = 60;
+    static final int MAX_SLOW_FRAMES = WINDOW_FRAMES / 10; //more frames over the budget step down
+    static final float HEADROOM = 0.6f; //every frame under this share of the budget counts towards stepping up
+    static final int HEADROOM_WINDOWS = 5; //in a row, to step up
+
+    private final long budgetNanos;
+    private final boolean adaptive;
+    private int level;
+
+    //current window
+    private int frames = 0, slowFrames = 0;
+    private long worstNanos = 0;
+    private int windowsWithHeadroom = 0;
+
+    //a level below 0 lets the governor choose, anything else pins that level
+    QualityGovernor(float budgetMillis, int pinnedLevel) {
+        budgetNanos = (long)(budgetMillis * 1e6f);
+        adaptive = pinnedLevel < 0;
+        level = adaptive ? 0 : Math.min(pinnedLevel, LEVEL_COUNT - 1);
+    }
+
+    //the time the last frame took to simulate and draw; returns true when the level changed
+    boolean frame(long frameNanos) {
+        if (!adaptive) return false;
+        frames++;
+        if (frameNanos > budgetNanos) slowFrames++;
+        worstNanos = Math.max(worstNanos, frameNanos);
+        if (frames < WINDOW_FRAMES) return false;
+
+        boolean changed = false;
+        if (slowFrames > MAX_SLOW_FRAMES) {
+            windowsWithHeadroom = 0;
+            if (level < LEVEL_COUNT - 1) {
+                changed = change(level + 1, slowFrames + " of " + frames + " frames over the budget");
+            }
+        }
+        else if (worstNanos < budgetNanos * HEADROOM) {
+            if (++windowsWithHeadroom >= HEADROOM_WINDOWS && level > 0) {
+                changed = change(level - 1, windowsWithHeadroom * WINDOW_FRAMES + " frames under "
+                        + Math.round(HEADROOM * 100) + "% of the budget");
+                windowsWithHeadroom = 0;
+            }
+        }
+        else {
+            windowsWithHeadroom = 0;
+        }
+        frames = slowFrames = 0;
+        worstNanos = 0;
+        return changed;
+    }
+
+    private boolean change(int newLevel, String reason) {
+        Gdx.app.log("QualityGovernor", "quality level " + level + " -> " + newLevel + ": " + reason
+                + ", worst " + worstNanos / 100000 / 10f + " ms, budget " + budgetNanos / 100000 / 10f + " ms; "
+                + BACKGROUND_LAYERS[newLevel] + " background layers, sparks " + (SPARKS[newLevel] ? "on" : "off")
+                + ", explosions every " + EXPLOSION_STRIDE[newLevel] + " frames, hud every "
+                + HUD_REFRESH_SECONDS[newLevel] + " s, laser cap " + LASER_CAP[newLevel]);
+        level = newLevel;
+        return true;
+    }
+
+    int getLevel() {
+        return level;
+    }
+
+    int getBackgroundLayers() {
+        return BACKGROUND_LAYERS[level];
+    }
+
+    boolean drawSparks() {
+        return SPARKS[level];
+    }
+
+    int getExplosionStride() {
+        return EXPLOSION_STRIDE[level];
+    }
+
+    float getHudRefreshSeconds() {
+        return HUD_REFRESH_SECONDS[level];
+    }
+
+    int getLaserCap() {
+        return LASER_CAP[level];
+    }
+}
@@ -0,0 +1,106 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.graphics.Camera;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Vector3;
+import com.badlogic.gdx.utils.Array;
+
+import java.util.Arrays;
+
+//sprites are submitted in any order, culled against the camera and drawn sorted by layer, then texture,
+//then submission order; the batch only flushes where the texture really changes
+class RenderQueue {
+
+    //layers, drawn bottom first
+    static final int SHIPS = 0, PLAYER = 1, LASERS = 2, EXPLOSIONS = 3, PARTICLES = 4;
+
+    //commands as parallel arrays
+    private TextureRegion[] regions;
+    private float[] x, y, width, height;
+    private long[] sortKeys; //layer, texture index and command index packed, sorts without a comparator
+    private int size;
+
+    //textures seen so far, their index is the texture part of the sort key
+    private final Array<Texture> textures = new Array<>();
+
+    //the camera frustum flattened to the xy-plane, the game camera is orthographic and never rotates
+    private float viewLeft, viewRight, viewBottom, viewTop;
+    private int culled;
+
+    RenderQueue(int initialCapacity) {
+        regions = new TextureRegion[initialCapacity];
+        x = new float[initialCapacity];
+        y = new float[initialCapacity];
+        width = new float[initialCapacity];
+        height = new float[initialCapacity];
+        sortKeys = new long[initialCapacity];
+    }
+
+    void begin(Camera camera) {
+        Vector3[] corners = camera.frustum.planePoints;
+        viewLeft = viewBottom = Float.POSITIVE_INFINITY;
+        viewRight = viewTop = Float.NEGATIVE_INFINITY;
+        for (Vector3 corner : corners) {
+            viewLeft = Math.min(viewLeft, corner.x);
+            viewRight = Math.max(viewRight, corner.x);
+            viewBottom = Math.min(viewBottom, corner.y);
+            viewTop = Math.max(viewTop, corner.y);
+        }
+        size = 0;
+        culled = 0;
+    }
+
+    void add(TextureRegion region, float x, float y, float width, float height, int layer) {
+        if (x > viewRight || x + width < viewLeft || y > viewTop || y + height < viewBottom) {
+            culled++;
+            return;
+        }
+
+        if (size == regions.length) resize(Math.max(8, (int)(size * 1.75f)));
+        regions[size] = region;
+        this.x[size] = x;
+        this.y[size] = y;
+        this.width[size] = width;
+        this.height[size] = height;
+        sortKeys[size] = ((long)layer << 56) | ((long)textureIndex(region.getTexture()) << 32) | size;
+        size++;
+    }
+
+    void flush(Batch batch) {
+        LongSort.sort(sortKeys, size);
+        for (int i = 0; i < size; i++) {
+            int command = (int)(sortKeys[i] & 0xFFFFFFFFL);
+            batch.draw(regions[command], x[command], y[command], width[command], height[command]);
+            regions[command] = null;
+        }
+        size = 0;
+    }
+
+    int getQueued() {
+        return size;
+    }
+
+    int getCulled() {
+        return culled;
+    }
+
+    private int textureIndex(Texture texture) {
+        //a handful of textures, a linear identity scan beats hashing
+        for (int i = 0; i < textures.size; i++) {
+            if (textures.get(i) == texture) return i;
+        }
+        textures.add(texture);
+        return textures.size - 1;
+    }
+
+    private void resize(int capacity) {
+        regions = Arrays.copyOf(regions, capacity);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        width = Arrays.copyOf(width, capacity);
+        height = Arrays.copyOf(height, capacity);
+        sortKeys = Arrays.copyOf(sortKeys, capacity);
+    }
+}
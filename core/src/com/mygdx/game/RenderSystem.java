@@ -0,0 +1,88 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+//submits ships and explosions to the render queue when the screen asks, never during the fixed-tick engine update
+class RenderSystem extends EntitySystem {
+
+    private ImmutableArray<Entity> enemyShips;
+    private ImmutableArray<Entity> playerShips;
+    private ImmutableArray<Entity> explosions;
+
+    static final int EXPLOSION_FRAME_COUNT = 16;
+
+    private final GameWorld world;
+
+    RenderSystem(GameWorld world) {
+        this.world = world;
+        setProcessing(false);
+    }
+
+    //the "explosion" regions of the atlas in index order; frames are played over a normalized 0..1 time
+    //so one animation serves all durations
+    static Animation<TextureRegion> createExplosionAnimation(Array<? extends TextureRegion> frames) {
+        //headless worlds have no atlas, only the timer matters there
+        if (frames == null) {
+            return null;
+        }
+        if (frames.size != EXPLOSION_FRAME_COUNT) {
+            throw new GdxRuntimeException("expected " + EXPLOSION_FRAME_COUNT + " explosion frames in the atlas, found " + frames.size);
+        }
+
+        return new Animation<TextureRegion>(1f / EXPLOSION_FRAME_COUNT, frames);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        enemyShips = engine.getEntitiesFor(Family.all(EnemyComponent.class, TransformComponent.class, SpriteComponent.class).get());
+        playerShips = engine.getEntitiesFor(Family.all(PlayerComponent.class, TransformComponent.class, SpriteComponent.class).get());
+        explosions = engine.getEntitiesFor(Family.all(ExplosionComponent.class, TransformComponent.class, LifetimeComponent.class).get());
+    }
+
+    //alpha is how far the frame is between the previous and the current tick; player ships go on top
+    void submitShips(RenderQueue queue, float alpha) {
+        for (int i = 0; i < enemyShips.size(); i++) {
+            submitShip(queue, enemyShips.get(i), alpha, RenderQueue.SHIPS);
+        }
+        for (int i = 0; i < playerShips.size(); i++) {
+            submitShip(queue, playerShips.get(i), alpha, RenderQueue.PLAYER);
+        }
+    }
+
+    private void submitShip(RenderQueue queue, Entity entity, float alpha, int layer) {
+        TransformComponent transform = Mappers.transform.get(entity);
+        SpriteComponent sprite = Mappers.sprite.get(entity);
+        Rectangle boundingBox = transform.boundingBox;
+
+        float x = transform.interpolatedX(alpha), y = transform.interpolatedY(alpha);
+        queue.add(sprite.shipTextureRegion, x, y,
+                boundingBox.width, boundingBox.height, layer);
+        ShieldComponent shield = Mappers.shield.get(entity);
+        if (shield != null && shield.shield > 0) {
+            queue.add(sprite.shieldTextureRegion,
+                    x, y+boundingBox.height*sprite.shieldOffsetY,
+                    boundingBox.width, boundingBox.height, layer);
+        }
+    }
+
+    //with a stride above 1 each explosion only shows every stride-th frame, in turns, for less overdraw
+    void submitExplosions(RenderQueue queue, int stride, int frame) {
+        long currentTick = world.timerSystem.getCurrentTick();
+        for (int i = (stride - frame % stride) % stride; i < explosions.size(); i += stride) {
+            Entity entity = explosions.get(i);
+            Rectangle boundingBox = Mappers.transform.get(entity).boundingBox;
+            LifetimeComponent lifetime = Mappers.lifetime.get(entity);
+            queue.add(Mappers.explosion.get(entity).animation.getKeyFrame(lifetime.progress(currentTick)),
+                    boundingBox.x, boundingBox.y, boundingBox.width, boundingBox.height, RenderQueue.EXPLOSIONS);
+        }
+    }
+}
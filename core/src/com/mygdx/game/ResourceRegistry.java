@@ -0,0 +1,175 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.ObjectSet;
+
+//owns the Disposables of one scope (the game, a screen) with an estimate of the native and texture memory
+//each one holds; disposing the registry disposes them newest first, whatever is still open at shutdown is a leak
+class ResourceRegistry implements Disposable {
+
+    //every registry that has not been disposed yet, and the estimates across all of them
+    private static final Array<ResourceRegistry> open = new Array<>();
+    private static long liveBytes, peakBytes;
+
+    private static final int FLOATS_PER_SPRITE = 20; //4 vertices of position, packed colour and uv
+
+    private final String name;
+    private final Array<Disposable> resources = new Array<>();
+    private final Array<String> names = new Array<>();
+    private final LongArray estimates = new LongArray();
+    private boolean disposed = false;
+
+    ResourceRegistry(String name) {
+        this.name = name;
+        open.add(this);
+    }
+
+    //returns the resource, so creation and registration can be one expression
+    <T extends Disposable> T add(T resource, String resourceName, long estimatedBytes) {
+        if (disposed) throw new GdxRuntimeException(name + " is disposed, cannot add " + resourceName);
+        if (resources.contains(resource, true)) throw new GdxRuntimeException(resourceName + " is already in " + name);
+        resources.add(resource);
+        names.add(resourceName);
+        estimates.add(estimatedBytes);
+        track(estimatedBytes);
+        return resource;
+    }
+
+    //e.g. once an AssetManager has finished loading what it was registered empty for
+    void setEstimatedBytes(Disposable resource, long estimatedBytes) {
+        int index = indexOf(resource);
+        track(estimatedBytes - estimates.get(index));
+        estimates.set(index, estimatedBytes);
+    }
+
+    //disposes one resource ahead of the rest
+    void dispose(Disposable resource) {
+        disposeIndex(indexOf(resource));
+    }
+
+    @Override
+    public void dispose() {
+        if (disposed) return;
+        for (int i = resources.size - 1; i >= 0; i--) {
+            disposeIndex(i);
+        }
+        disposed = true;
+        open.removeValue(this, true);
+    }
+
+    long getEstimatedBytes() {
+        long total = 0;
+        for (int i = 0; i < estimates.size; i++) total += estimates.get(i);
+        return total;
+    }
+
+    static long getLiveBytes() {
+        return liveBytes;
+    }
+
+    static long getPeakBytes() {
+        return peakBytes;
+    }
+
+    //call after everything that should have been disposed was; returns the number of leaked resources
+    static int logShutdownReport() {
+        int leaked = 0;
+        for (ResourceRegistry registry : open) {
+            for (int i = 0; i < registry.resources.size; i++) {
+                Gdx.app.error("ResourceRegistry", "leaked " + registry.names.get(i) + " from " + registry.name
+                        + ", about " + kilobytes(registry.estimates.get(i)) + " KB");
+                leaked++;
+            }
+            if (registry.resources.size == 0) {
+                Gdx.app.error("ResourceRegistry", registry.name + " was never disposed");
+            }
+        }
+        Gdx.app.log("ResourceRegistry", "peak native memory about " + kilobytes(peakBytes) + " KB, "
+                + kilobytes(liveBytes) + " KB still live, " + leaked + " leaked resources");
+        return leaked;
+    }
+
+    private void disposeIndex(int index) {
+        Disposable resource = resources.removeIndex(index);
+        String resourceName = names.removeIndex(index);
+        track(-estimates.removeIndex(index));
+        try {
+            resource.dispose();
+        } catch (RuntimeException e) {
+            //keep going, one bad resource should not leak everything registered before it
+            Gdx.app.error("ResourceRegistry", "could not dispose " + resourceName + " from " + name, e);
+        }
+    }
+
+    private int indexOf(Disposable resource) {
+        int index = resources.indexOf(resource, true);
+        if (index < 0) throw new GdxRuntimeException("not in " + name + ": " + resource);
+        return index;
+    }
+
+    private static void track(long bytes) {
+        liveBytes += bytes;
+        peakBytes = Math.max(peakBytes, liveBytes);
+    }
+
+    private static long kilobytes(long bytes) {
+        return (bytes + 1023) / 1024;
+    }
+
+    //estimates, the driver may pad or keep extra copies but the order of magnitude holds
+
+    static long textureBytes(Texture texture) {
+        long bytes = (long)texture.getWidth() * texture.getHeight() * bytesPerPixel(texture.getTextureData().getFormat());
+        return texture.getTextureData().useMipMaps() ? bytes * 4 / 3 : bytes;
+    }
+
+    static long atlasBytes(TextureAtlas atlas) {
+        long bytes = 0;
+        for (Texture texture : atlas.getTextures()) bytes += textureBytes(texture);
+        return bytes;
+    }
+
+    static long fontBytes(BitmapFont font) {
+        //pages can share a texture, count each one once
+        ObjectSet<Texture> pages = new ObjectSet<>();
+        for (TextureRegion region : font.getRegions()) pages.add(region.getTexture());
+        long bytes = 0;
+        for (Texture texture : pages) bytes += textureBytes(texture);
+        return bytes;
+    }
+
+    //the vertex array on the heap plus its copy in the GL buffer, and the index buffer
+    static long batchBytes(int size) {
+        return (long)size * (2 * 4 * FLOATS_PER_SPRITE + 6 * 2);
+    }
+
+    //ShapeRenderer keeps position and packed colour per vertex, on the heap and in the GL buffer
+    static long shapeRendererBytes(int maxVertices) {
+        return (long)maxVertices * 2 * 4 * 4;
+    }
+
+    private static int bytesPerPixel(Pixmap.Format format) {
+        switch (format) {
+            case Alpha:
+            case Intensity:
+                return 1;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                return 2;
+            case RGB888:
+                return 3;
+            default:
+                return 4;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.mygdx.game;
+
+import java.nio.ByteBuffer;
+
+//the last few seconds of world states, one every interval, to rewind to or to look back at while debugging;
+//each slot keeps its buffer, so once they have grown to the size of the world recording allocates nothing
+class RewindBuffer {
+
+    private final WorldSerializer serializer = new WorldSerializer();
+    private final int intervalTicks;
+    private final ByteBuffer[] states;
+    private final long[] ticks;
+    private int newest = -1;
+    private int count = 0;
+
+    RewindBuffer(float seconds, float interval) {
+        intervalTicks = TimerSystem.ticks(interval);
+        states = new ByteBuffer[Math.max(1, (int)Math.ceil(seconds / interval))];
+        ticks = new long[states.length];
+    }
+
+    //after every update, a state is only taken every interval
+    void record(GameWorld world) {
+        if (world.getTickCount() % intervalTicks != 0) return;
+        newest = (newest + 1) % states.length;
+        states[newest] = serializer.write(world, states[newest]);
+        ticks[newest] = world.getTickCount();
+        count = Math.min(count + 1, states.length);
+    }
+
+    //back to the newest state at least seconds old, or the oldest one kept; the states after it are dropped.
+    //returns the tick the world is at now, -1 if nothing was recorded yet
+    long rewind(GameWorld world, float seconds) {
+        if (count == 0) return -1;
+        long tick = world.getTickCount() - TimerSystem.ticks(seconds);
+        while (count > 1 && ticks[newest] > tick) {
+            newest = (newest + states.length - 1) % states.length;
+            count--;
+        }
+        serializer.read(states[newest], world);
+        return ticks[newest];
+    }
+
+    int getStateCount() {
+        return count;
+    }
+
+    //what the slots hold on to, grown ones included
+    long getBytes() {
+        long bytes = 0;
+        for (ByteBuffer state : states) {
+            if (state != null) bytes += state.capacity();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,23 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+//hits the ship can take before it is destroyed
+class ShieldComponent implements Component, Pool.Poolable {
+
+    int shield;
+
+    boolean hitAndCheckDestroyed() {
+        if (shield > 0) {
+            shield --;
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        shield = 0;
+    }
+}
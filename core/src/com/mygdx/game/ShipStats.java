@@ -0,0 +1,29 @@
+package com.mygdx.game;
+
+//what an enemy ship is made of, one entry per ship type in waves.json; defaults are the original enemy
+class ShipStats {
+
+    float width = 10, height = 10;
+    float movementSpeed = 15;
+    float directionChangeFrequency = 0.75f;
+    int shield = 4;
+
+    //weapon, fire rate is one pair of lasers every timeBetweenShots seconds
+    float laserWidth = 0.3f, laserHeight = 5;
+    float laserMovementSpeed = 30;
+    float timeBetweenShots = 0.9f;
+
+    ShipStats copy() {
+        ShipStats copy = new ShipStats();
+        copy.width = width;
+        copy.height = height;
+        copy.movementSpeed = movementSpeed;
+        copy.directionChangeFrequency = directionChangeFrequency;
+        copy.shield = shield;
+        copy.laserWidth = laserWidth;
+        copy.laserHeight = laserHeight;
+        copy.laserMovementSpeed = laserMovementSpeed;
+        copy.timeBetweenShots = timeBetweenShots;
+        return copy;
+    }
+}
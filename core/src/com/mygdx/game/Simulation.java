@@ -0,0 +1,15 @@
+package com.mygdx.game;
+
+//the game rules without any rendering, so they can be stepped on machines without a GPU
+interface Simulation {
+
+    //advances the world by one fixed tick using the given player input
+    void update(float deltaTime, PlayerInput input);
+
+    long getTickCount();
+
+    int getScore();
+
+    //folds the state that decides the rest of the game into one number, replays compare it
+    long getStateChecksum();
+}
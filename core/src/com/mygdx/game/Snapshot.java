@@ -0,0 +1,157 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Rectangle;
+
+import java.util.Arrays;
+
+//what a client sees of the world at one tick: per category, ids in ascending order with quantised positions
+//and one state value; captured by the server, rebuilt by clients from SnapshotCodec deltas
+class Snapshot {
+
+    static final int PLAYERS = 0, ENEMIES = 1, PLAYER_LASERS = 2, ENEMY_LASERS = 3, EXPLOSIONS = 4;
+    static final int CATEGORY_COUNT = 5;
+
+    static final float POSITION_SCALE = 64; //steps per world unit, finer than a pixel at any window size
+    static final int EXPLOSION_STEPS = 255;
+
+    //one category as parallel arrays, sorted by id
+    static final class Category {
+        int[] ids, x, y, state;
+        int size;
+
+        Category(int initialCapacity) {
+            ids = new int[initialCapacity];
+            x = new int[initialCapacity];
+            y = new int[initialCapacity];
+            state = new int[initialCapacity];
+        }
+
+        void add(int id, int xValue, int yValue, int stateValue) {
+            if (size == ids.length) {
+                int capacity = Math.max(8, (int)(size * 1.75f));
+                ids = Arrays.copyOf(ids, capacity);
+                x = Arrays.copyOf(x, capacity);
+                y = Arrays.copyOf(y, capacity);
+                state = Arrays.copyOf(state, capacity);
+            }
+            ids[size] = id;
+            x[size] = xValue;
+            y[size] = yValue;
+            state[size] = stateValue;
+            size++;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        boolean contentEquals(Category other) {
+            if (size != other.size) return false;
+            for (int i = 0; i < size; i++) {
+                if (ids[i] != other.ids[i] || x[i] != other.x[i] || y[i] != other.y[i] || state[i] != other.state[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    int sequence = -1; //-1 until something was captured or decoded into it
+    int tick;
+    int score;
+    final Category[] categories = new Category[CATEGORY_COUNT];
+
+    //sorting scratch, packs id and index so no comparator is needed
+    private long[] sortKeys = new long[64];
+    private Category sorted = new Category(64);
+
+    Snapshot() {
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            categories[i] = new Category(64);
+        }
+    }
+
+    void capture(GameWorld world, int sequence) {
+        this.sequence = sequence;
+        tick = (int)world.getTickCount();
+        score = world.score;
+
+        Category players = clear(PLAYERS);
+        for (int i = 0; i < world.playerShips.size(); i++) {
+            Entity ship = world.playerShips.get(i);
+            //lives can run below zero, the shield stays within a byte
+            int state = Mappers.player.get(ship).lives << 8 | Mappers.shield.get(ship).shield & 0xFF;
+            add(players, ship, state);
+        }
+        Category enemies = clear(ENEMIES);
+        for (int i = 0; i < world.enemyShips.size(); i++) {
+            Entity ship = world.enemyShips.get(i);
+            add(enemies, ship, Mappers.shield.get(ship).shield);
+        }
+        capture(clear(PLAYER_LASERS), world.playerLaserList);
+        capture(clear(ENEMY_LASERS), world.enemyLaserList);
+        Category explosions = clear(EXPLOSIONS);
+        long currentTick = world.timerSystem.getCurrentTick();
+        for (int i = 0; i < world.explosions.size(); i++) {
+            Entity explosion = world.explosions.get(i);
+            float progress = Mappers.lifetime.get(explosion).progress(currentTick);
+            add(explosions, explosion, (int)(Math.min(1, progress) * EXPLOSION_STEPS));
+        }
+
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            sort(i);
+        }
+    }
+
+    boolean contentEquals(Snapshot other) {
+        if (tick != other.tick || score != other.score) return false;
+        for (int i = 0; i < CATEGORY_COUNT; i++) {
+            if (!categories[i].contentEquals(other.categories[i])) return false;
+        }
+        return true;
+    }
+
+    int getEntityCount() {
+        int count = 0;
+        for (Category category : categories) count += category.size;
+        return count;
+    }
+
+    static int quantise(float position) {
+        return Math.round(position * POSITION_SCALE);
+    }
+
+    private Category clear(int category) {
+        categories[category].clear();
+        return categories[category];
+    }
+
+    private static void add(Category category, Entity entity, int state) {
+        Rectangle boundingBox = Mappers.transform.get(entity).boundingBox;
+        category.add(Mappers.networkId.get(entity).id, quantise(boundingBox.x), quantise(boundingBox.y), state);
+    }
+
+    private static void capture(Category category, LaserStore lasers) {
+        for (int i = 0; i < lasers.size; i++) {
+            category.add(lasers.id[i], quantise(lasers.x[i]), quantise(lasers.y[i]), 0);
+        }
+    }
+
+    //engine arrays keep creation order and are usually sorted already, laser stores are not
+    private void sort(int index) {
+        Category category = categories[index];
+        if (sortKeys.length < category.size) sortKeys = new long[category.ids.length];
+        for (int i = 0; i < category.size; i++) {
+            sortKeys[i] = (long)category.ids[i] << 32 | i;
+        }
+        LongSort.sort(sortKeys, category.size);
+        sorted.clear();
+        for (int i = 0; i < category.size; i++) {
+            int from = (int)sortKeys[i];
+            sorted.add(category.ids[from], category.x[from], category.y[from], category.state[from]);
+        }
+        categories[index] = sorted;
+        sorted = category;
+    }
+}
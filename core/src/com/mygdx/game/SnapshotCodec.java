@@ -0,0 +1,157 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.IntArray;
+
+import java.nio.ByteBuffer;
+
+//writes a snapshot as the difference to a base both sides still hold: per category the ids that went away,
+//then the ids that are new or changed with a mask of changed fields and zigzag varint deltas;
+//anything that did not change costs nothing, a missing base means a delta against empty categories
+class SnapshotCodec {
+
+    private static final int X = 1, Y = 1 << 1, STATE = 1 << 2;
+
+    private final Snapshot.Category empty = new Snapshot.Category(0);
+
+    //scratch, reused for every category
+    private final IntArray removed = new IntArray();
+    private final IntArray changed = new IntArray(); //index in the current category
+    private final IntArray changedBase = new IntArray(); //index in the base, -1 for new ids
+
+    void encode(Snapshot current, Snapshot base, ByteBuffer out) {
+        out.putInt(current.tick).putInt(current.score);
+        for (int i = 0; i < Snapshot.CATEGORY_COUNT; i++) {
+            encode(current.categories[i], base == null ? empty : base.categories[i], out);
+        }
+    }
+
+    //base must be the snapshot the encoder used, out becomes the encoded one
+    void decode(ByteBuffer in, Snapshot base, Snapshot out, int sequence) {
+        out.sequence = sequence;
+        out.tick = in.getInt();
+        out.score = in.getInt();
+        for (int i = 0; i < Snapshot.CATEGORY_COUNT; i++) {
+            decode(in, base == null ? empty : base.categories[i], out.categories[i]);
+        }
+    }
+
+    //both categories are sorted by id, so one merge walk finds what went, came and changed
+    private void encode(Snapshot.Category current, Snapshot.Category base, ByteBuffer out) {
+        removed.clear();
+        changed.clear();
+        changedBase.clear();
+        int i = 0, j = 0;
+        while (i < current.size || j < base.size) {
+            if (j == base.size || (i < current.size && current.ids[i] < base.ids[j])) {
+                changed.add(i++);
+                changedBase.add(-1);
+            }
+            else if (i == current.size || base.ids[j] < current.ids[i]) {
+                removed.add(base.ids[j++]);
+            }
+            else {
+                if (current.x[i] != base.x[j] || current.y[i] != base.y[j] || current.state[i] != base.state[j]) {
+                    changed.add(i);
+                    changedBase.add(j);
+                }
+                i++;
+                j++;
+            }
+        }
+
+        putVarInt(out, removed.size);
+        int previousId = 0;
+        for (int k = 0; k < removed.size; k++) {
+            putVarInt(out, removed.get(k) - previousId);
+            previousId = removed.get(k);
+        }
+
+        putVarInt(out, changed.size);
+        previousId = 0;
+        for (int k = 0; k < changed.size; k++) {
+            int index = changed.get(k), baseIndex = changedBase.get(k);
+            int dx = current.x[index] - (baseIndex < 0 ? 0 : base.x[baseIndex]);
+            int dy = current.y[index] - (baseIndex < 0 ? 0 : base.y[baseIndex]);
+            int dState = current.state[index] - (baseIndex < 0 ? 0 : base.state[baseIndex]);
+            putVarInt(out, current.ids[index] - previousId);
+            previousId = current.ids[index];
+            out.put((byte)((dx != 0 ? X : 0) | (dy != 0 ? Y : 0) | (dState != 0 ? STATE : 0)));
+            if (dx != 0) putVarInt(out, zigzag(dx));
+            if (dy != 0) putVarInt(out, zigzag(dy));
+            if (dState != 0) putVarInt(out, zigzag(dState));
+        }
+    }
+
+    private void decode(ByteBuffer in, Snapshot.Category base, Snapshot.Category out) {
+        out.clear();
+        removed.clear();
+        int removedCount = getVarInt(in);
+        int id = 0;
+        for (int k = 0; k < removedCount; k++) {
+            id += getVarInt(in);
+            removed.add(id);
+        }
+
+        int changedCount = getVarInt(in);
+        int j = 0, r = 0;
+        id = 0;
+        for (int k = 0; k < changedCount; k++) {
+            id += getVarInt(in);
+            //everything in the base before this id carries over unless it went away
+            while (j < base.size && base.ids[j] < id) {
+                r = carryOver(base, j++, r, out);
+            }
+            int x = 0, y = 0, state = 0;
+            if (j < base.size && base.ids[j] == id) {
+                x = base.x[j];
+                y = base.y[j];
+                state = base.state[j];
+                j++;
+            }
+            int mask = in.get();
+            if ((mask & X) != 0) x += unzigzag(getVarInt(in));
+            if ((mask & Y) != 0) y += unzigzag(getVarInt(in));
+            if ((mask & STATE) != 0) state += unzigzag(getVarInt(in));
+            out.add(id, x, y, state);
+        }
+        while (j < base.size) {
+            r = carryOver(base, j++, r, out);
+        }
+    }
+
+    //copies base entry j unless it is the next removed id, returns the new position in the removed ids
+    private int carryOver(Snapshot.Category base, int j, int r, Snapshot.Category out) {
+        int id = base.ids[j];
+        while (r < removed.size && removed.get(r) < id) r++;
+        if (r < removed.size && removed.get(r) == id) return r + 1;
+        out.add(id, base.x[j], base.y[j], base.state[j]);
+        return r;
+    }
+
+    //small magnitudes of either sign become small unsigned values
+    private static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    //seven bits per byte, low first, the high bit says more follows
+    static void putVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte)value);
+    }
+
+    static int getVarInt(ByteBuffer in) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.IntArray;
+
+import java.util.Arrays;
+
+//uniform grid over the world, used as a broadphase so only nearby pairs get an exact overlap test
+class SpatialHashGrid {
+
+    private final float cellSize;
+    private final int columns, rows;
+    private final IntArray[] cells;
+
+    //per item bookkeeping, indexed by the id passed to insert()
+    private boolean[] removed = new boolean[64];
+    private int[] queryStamps = new int[64];
+    private int queryStamp = 0;
+
+    public SpatialHashGrid(float worldWidth, float worldHeight, float cellSize) {
+        this.cellSize = cellSize;
+        this.columns = (int)Math.ceil(worldWidth / cellSize);
+        this.rows = (int)Math.ceil(worldHeight / cellSize);
+        cells = new IntArray[columns * rows];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new IntArray(false, 8);
+        }
+    }
+
+    public void clear() {
+        for (IntArray cell : cells) {
+            cell.clear();
+        }
+    }
+
+    //ids are expected to be small and dense (e.g. list indices), since they index the bookkeeping arrays
+    public void insert(int id, Rectangle boundingBox) {
+        ensureCapacity(id + 1);
+        removed[id] = false;
+        queryStamps[id] = 0;
+        int minColumn = column(boundingBox.x), maxColumn = column(boundingBox.x + boundingBox.width);
+        int minRow = row(boundingBox.y), maxRow = row(boundingBox.y + boundingBox.height);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                cells[row * columns + column].add(id);
+            }
+        }
+    }
+
+    //the item stays in its cells but is no longer returned by query()
+    public void remove(int id) {
+        removed[id] = true;
+    }
+
+    //collects the ids of every item sharing a cell with the box, each once, in no particular order
+    public IntArray query(Rectangle boundingBox, IntArray candidates) {
+        candidates.clear();
+        if (++queryStamp == 0) {
+            Arrays.fill(queryStamps, 0);
+            queryStamp = 1;
+        }
+        int minColumn = column(boundingBox.x), maxColumn = column(boundingBox.x + boundingBox.width);
+        int minRow = row(boundingBox.y), maxRow = row(boundingBox.y + boundingBox.height);
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                IntArray cell = cells[row * columns + column];
+                for (int i = 0; i < cell.size; i++) {
+                    int id = cell.items[i];
+                    if (!removed[id] && queryStamps[id] != queryStamp) {
+                        queryStamps[id] = queryStamp;
+                        candidates.add(id);
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private int column(float x) {
+        return Math.min(columns - 1, Math.max(0, (int)(x / cellSize)));
+    }
+
+    private int row(float y) {
+        return Math.min(rows - 1, Math.max(0, (int)(y / cellSize)));
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= removed.length) return;
+        int newCapacity = Math.max(capacity, removed.length * 2);
+        boolean[] newRemoved = new boolean[newCapacity];
+        System.arraycopy(removed, 0, newRemoved, 0, removed.length);
+        removed = newRemoved;
+        int[] newStamps = new int[newCapacity];
+        System.arraycopy(queryStamps, 0, newStamps, 0, queryStamps.length);
+        queryStamps = newStamps;
+    }
+}
@@ -0,0 +1,18 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Pool;
+
+//ship and shield graphics, null when running headless
+class SpriteComponent implements Component, Pool.Poolable {
+
+    TextureRegion shipTextureRegion, shieldTextureRegion;
+    float shieldOffsetY; //fraction of the ship height
+
+    @Override
+    public void reset() {
+        shipTextureRegion = shieldTextureRegion = null;
+        shieldOffsetY = 0;
+    }
+}
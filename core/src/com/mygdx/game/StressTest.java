@@ -0,0 +1,114 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+
+import java.util.Locale;
+import java.util.Random;
+
+import static com.mygdx.game.GameWorld.WORLD_HEIGHT;
+import static com.mygdx.game.GameWorld.WORLD_WIDHTH;
+
+//ramps the enemy swarm, and with it the enemy lasers, until the mean frame time passes each budget;
+//the counts reached are a capacity number for this build on this machine
+class StressTest {
+
+    static final float[] BUDGETS_MS = {8.3f, 16.6f};
+
+    private final int SETTLE_FRAMES = 30; //skipped after every step, while the new ships start firing
+    private final int WINDOW_FRAMES = 60; //averaged for every step
+    private final int MIN_STEP = 16;
+    private final float STEP_SHARE = 0.25f; //each step adds a quarter of the current swarm
+    private final int MAX_ENEMIES = 1 << 20; //gives up rather than run out of memory
+
+    private final GameWorld world;
+    private final ShipStats stats;
+    private final Random random;
+
+    //current step
+    private int framesInStep = 0;
+    private long windowNanos = 0;
+
+    //results, one per budget
+    private int nextBudget = 0;
+    private boolean finished = false;
+    private final int[] enemiesAtBudget = new int[BUDGETS_MS.length];
+    private final int[] lasersAtBudget = new int[BUDGETS_MS.length];
+    private final float[] meanMsAtBudget = new float[BUDGETS_MS.length];
+
+    //the world should not spawn on its own, see WaveSchedule.none
+    StressTest(GameWorld world, long seed) {
+        this.world = world;
+        stats = swarmStats(world);
+        random = new Random(seed);
+        ramp();
+    }
+
+    //called once per frame with how long the frame took, returns true once every budget has been passed
+    boolean frame(long frameNanos) {
+        if (finished) return true;
+        framesInStep++;
+        if (framesInStep <= SETTLE_FRAMES) return false;
+        windowNanos += frameNanos;
+        if (framesInStep < SETTLE_FRAMES + WINDOW_FRAMES) return false;
+
+        float meanMs = windowNanos / (float)WINDOW_FRAMES / 1e6f;
+        while (nextBudget < BUDGETS_MS.length && meanMs > BUDGETS_MS[nextBudget]) {
+            enemiesAtBudget[nextBudget] = world.enemyShips.size();
+            lasersAtBudget[nextBudget] = world.playerLaserList.size + world.enemyLaserList.size;
+            meanMsAtBudget[nextBudget] = meanMs;
+            nextBudget++;
+        }
+        framesInStep = 0;
+        windowNanos = 0;
+        finished = nextBudget == BUDGETS_MS.length || world.enemyShips.size() >= MAX_ENEMIES;
+        if (!finished) ramp();
+        return finished;
+    }
+
+    boolean isFinished() {
+        return finished;
+    }
+
+    String report() {
+        StringBuilder report = new StringBuilder("stress test, mean frame time per step of "
+                + WINDOW_FRAMES + " frames");
+        for (int i = 0; i < BUDGETS_MS.length; i++) {
+            report.append('\n');
+            if (i < nextBudget) {
+                report.append(String.format(Locale.ROOT,
+                        "%.1f ms: %d enemies, %d lasers, %d entities (mean %.2f ms)",
+                        BUDGETS_MS[i], enemiesAtBudget[i], lasersAtBudget[i],
+                        enemiesAtBudget[i] + lasersAtBudget[i], meanMsAtBudget[i]));
+            }
+            else {
+                report.append(String.format(Locale.ROOT, "%.1f ms: not reached with %d enemies",
+                        BUDGETS_MS[i], world.enemyShips.size()));
+            }
+        }
+        return report.toString();
+    }
+
+    private void ramp() {
+        addSwarm(world, stats, Math.max(MIN_STEP, (int)(world.enemyShips.size() * STEP_SHARE)), random);
+    }
+
+    //the stress ship type with a shield nothing gets through, so the swarm only grows
+    static ShipStats swarmStats(GameWorld world) {
+        ShipStats stats = world.waves.getShip(world.waves.stressShip).copy();
+        stats.shield = Integer.MAX_VALUE;
+        return stats;
+    }
+
+    //enemies anywhere in the upper half, with their timers spread so they do not fire or turn on a single tick
+    static void addSwarm(GameWorld world, ShipStats stats, int count, Random random) {
+        for (int i = 0; i < count; i++) {
+            Entity enemyShip = world.createEnemyShip(
+                    random.nextFloat() * (WORLD_WIDHTH - stats.width) + stats.width / 2,
+                    WORLD_HEIGHT / 2f + stats.height / 2 + random.nextFloat() * (WORLD_HEIGHT / 2f - stats.height),
+                    stats, random.nextLong());
+            world.weaponSystem.scheduleShot(enemyShip, random.nextFloat() * stats.timeBetweenShots);
+            world.enemyMovementSystem.scheduleDirectionChange(enemyShip,
+                    random.nextFloat() * stats.directionChangeFrequency);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+
+import java.nio.ByteBuffer;
+
+//advances the timer wheel one tick per update and hands due timers to the system that owns their kind;
+//timers of removed entities are cancelled, so a pooled entity never receives its previous owner's events
+class TimerSystem extends EntitySystem implements TimerWheel.Listener, EntityListener {
+
+    //timer kinds
+    static final int FIRE = 0, CHANGE_DIRECTION = 1, SPAWN = 2, EXPIRE = 3;
+    private static final int KIND_COUNT = 4;
+
+    private final GameWorld world;
+    private final TimerWheel wheel = new TimerWheel(256);
+    private final TimerWheel.Listener[] listeners = new TimerWheel.Listener[KIND_COUNT];
+
+    TimerSystem(GameWorld world, int priority) {
+        super(priority);
+        this.world = world;
+        listeners[EXPIRE] = this;
+    }
+
+    //whole simulation ticks, timers never fire on the tick they are scheduled
+    static int ticks(float seconds) {
+        return Math.max(1, Math.round(seconds / GameWorld.SIMULATION_TICK));
+    }
+
+    void setListener(int kind, TimerWheel.Listener listener) {
+        listeners[kind] = listener;
+    }
+
+    int schedule(int delayTicks, int kind, Object target) {
+        return wheel.schedule(delayTicks, kind, target);
+    }
+
+    void cancel(int timer) {
+        wheel.cancel(timer);
+    }
+
+    long getCurrentTick() {
+        return wheel.getCurrentTick();
+    }
+
+    int getPending() {
+        return wheel.getPending();
+    }
+
+    int getHandleLimit() {
+        return wheel.getHandleLimit();
+    }
+
+    void write(ByteBuffer out, int[] targetIndices) {
+        wheel.write(out, targetIndices);
+    }
+
+    void read(ByteBuffer in, Object[] targetsByIndex) {
+        wheel.read(in, targetsByIndex);
+    }
+
+    @Override
+    public void addedToEngine(Engine engine) {
+        engine.addEntityListener(Family.one(WeaponComponent.class, VelocityComponent.class, LifetimeComponent.class).get(), this);
+    }
+
+    @Override
+    public void removedFromEngine(Engine engine) {
+        engine.removeEntityListener(this);
+    }
+
+    @Override
+    public void update(float deltaTime) {
+        world.profiler.begin(FrameProfiler.TIMERS);
+        wheel.advance(this);
+        world.profiler.end(FrameProfiler.TIMERS);
+    }
+
+    @Override
+    public void onTimer(int kind, Object target) {
+        if (kind == EXPIRE) {
+            Entity entity = (Entity)target;
+            Mappers.lifetime.get(entity).expiryTimer = -1;
+            getEngine().removeEntity(entity);
+        }
+        else {
+            listeners[kind].onTimer(kind, target);
+        }
+    }
+
+    @Override
+    public void entityAdded(Entity entity) {
+    }
+
+    @Override
+    public void entityRemoved(Entity entity) {
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        if (weapon != null) {
+            wheel.cancel(weapon.shotTimer);
+            weapon.shotTimer = -1;
+        }
+        VelocityComponent velocity = Mappers.velocity.get(entity);
+        if (velocity != null) {
+            wheel.cancel(velocity.directionTimer);
+            velocity.directionTimer = -1;
+        }
+        LifetimeComponent lifetime = Mappers.lifetime.get(entity);
+        if (lifetime != null) {
+            wheel.cancel(lifetime.expiryTimer);
+            lifetime.expiryTimer = -1;
+        }
+    }
+}
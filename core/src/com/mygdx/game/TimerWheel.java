@@ -0,0 +1,234 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+//hierarchical timer wheel counted in whole ticks: advancing only touches the slot that is due, plus an
+//occasional cascade of one upper-level slot, so the cost follows the timers that fire, not the ones pending.
+//timers are one-shot and live in parallel arrays; a handle is valid until its timer fires or is cancelled
+class TimerWheel {
+
+    interface Listener {
+        void onTimer(int kind, Object target);
+    }
+
+    //level 0 holds the next 256 ticks one per slot, every level above covers 64 slots of the level below
+    private static final int LEVELS = 4;
+    private static final int[] SLOT_BITS = {8, 6, 6, 6};
+    private static final int[] SHIFT = {0, 8, 14, 20};
+    private static final long MAX_DELAY = (1L << 26) - 1; //about 6.5 days at 120 ticks per second
+
+    private static final int FREE = -1, DETACHED = -2;
+
+    private final int[][] slotHeads = new int[LEVELS][];
+
+    //timers
+    private long[] deadlines;
+    private int[] kinds;
+    private Object[] targets;
+    private int[] next, previous;
+    private int[] slots; //level * 256 + slot while linked, DETACHED while being fired, FREE otherwise
+    private boolean[] cancelled;
+    private int freeHead = -1;
+    private int highWater = 0;
+    private int pending = 0;
+
+    private long currentTick = 0;
+
+    TimerWheel(int initialCapacity) {
+        for (int level = 0; level < LEVELS; level++) {
+            slotHeads[level] = new int[1 << SLOT_BITS[level]];
+            Arrays.fill(slotHeads[level], -1);
+        }
+        deadlines = new long[initialCapacity];
+        kinds = new int[initialCapacity];
+        targets = new Object[initialCapacity];
+        next = new int[initialCapacity];
+        previous = new int[initialCapacity];
+        slots = new int[initialCapacity];
+        cancelled = new boolean[initialCapacity];
+    }
+
+    long getCurrentTick() {
+        return currentTick;
+    }
+
+    int getPending() {
+        return pending;
+    }
+
+    //fires delayTicks after the current tick, at least one tick later
+    int schedule(long delayTicks, int kind, Object target) {
+        int timer = allocate();
+        deadlines[timer] = currentTick + Math.max(1, Math.min(delayTicks, MAX_DELAY));
+        kinds[timer] = kind;
+        targets[timer] = target;
+        cancelled[timer] = false;
+        link(timer);
+        pending++;
+        return timer;
+    }
+
+    void cancel(int timer) {
+        if (timer < 0 || slots[timer] == FREE || cancelled[timer]) return;
+        pending--;
+        if (slots[timer] == DETACHED) {
+            //already taken off the wheel by advance, which skips and frees it
+            cancelled[timer] = true;
+            return;
+        }
+        unlink(timer);
+        release(timer);
+    }
+
+    //moves to the next tick and fires everything due on it
+    void advance(Listener listener) {
+        currentTick++;
+
+        //refill the lower levels from the slot that has just come within their range
+        if ((currentTick & 255) == 0) {
+            for (int level = 1; level < LEVELS; level++) {
+                int slot = (int)(currentTick >>> SHIFT[level]) & ((1 << SLOT_BITS[level]) - 1);
+                cascade(level, slot);
+                if (slot != 0) break;
+            }
+        }
+
+        int slot = (int)(currentTick & 255);
+        int timer = slotHeads[0][slot];
+        slotHeads[0][slot] = -1;
+        for (int t = timer; t >= 0; t = next[t]) {
+            slots[t] = DETACHED;
+        }
+        while (timer >= 0) {
+            int following = next[timer];
+            if (!cancelled[timer]) {
+                pending--;
+                int kind = kinds[timer];
+                Object target = targets[timer];
+                release(timer);
+                listener.onTimer(kind, target);
+            }
+            else {
+                release(timer);
+            }
+            timer = following;
+        }
+    }
+
+    //handles are always below this
+    int getHandleLimit() {
+        return highWater;
+    }
+
+    //the wheel as it is between ticks, timer by timer so handles and the firing order within a tick survive;
+    //targets are written as targetIndices[handle], which the caller fills in, null targets as -1
+    void write(ByteBuffer out, int[] targetIndices) {
+        out.putLong(currentTick).putInt(highWater).putInt(freeHead).putInt(pending);
+        for (int level = 0; level < LEVELS; level++) {
+            for (int head : slotHeads[level]) out.putInt(head);
+        }
+        for (int timer = 0; timer < highWater; timer++) {
+            out.putInt(slots[timer]).putInt(next[timer]);
+            if (slots[timer] == FREE) continue;
+            int target = -1;
+            if (targets[timer] != null) {
+                target = targetIndices[timer];
+                if (target < 0) throw new GdxRuntimeException("timer target " + targets[timer] + " is not in the state");
+            }
+            out.putInt((int)(deadlines[timer] - currentTick)).put((byte)kinds[timer]).putInt(target)
+                    .putInt(previous[timer]);
+        }
+    }
+
+    //replaces everything with what write wrote, targets are looked up by index
+    void read(ByteBuffer in, Object[] targetsByIndex) {
+        currentTick = in.getLong();
+        int count = in.getInt();
+        freeHead = in.getInt();
+        pending = in.getInt();
+        for (int level = 0; level < LEVELS; level++) {
+            int[] heads = slotHeads[level];
+            for (int slot = 0; slot < heads.length; slot++) heads[slot] = in.getInt();
+        }
+        if (count > deadlines.length) resize(count);
+        Arrays.fill(targets, count, Math.max(count, highWater), null);
+        highWater = count;
+        for (int timer = 0; timer < count; timer++) {
+            slots[timer] = in.getInt();
+            next[timer] = in.getInt();
+            cancelled[timer] = false;
+            if (slots[timer] == FREE) {
+                targets[timer] = null;
+                continue;
+            }
+            deadlines[timer] = currentTick + in.getInt();
+            kinds[timer] = in.get();
+            int target = in.getInt();
+            targets[timer] = target < 0 ? null : targetsByIndex[target];
+            previous[timer] = in.getInt();
+        }
+    }
+
+    private void cascade(int level, int slot) {
+        int timer = slotHeads[level][slot];
+        slotHeads[level][slot] = -1;
+        while (timer >= 0) {
+            int following = next[timer];
+            link(timer);
+            timer = following;
+        }
+    }
+
+    private void link(int timer) {
+        long delay = deadlines[timer] - currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && delay >= 1L << SHIFT[level + 1]) {
+            level++;
+        }
+        int slot = (int)(deadlines[timer] >>> SHIFT[level]) & ((1 << SLOT_BITS[level]) - 1);
+
+        int head = slotHeads[level][slot];
+        next[timer] = head;
+        previous[timer] = -1;
+        if (head >= 0) previous[head] = timer;
+        slotHeads[level][slot] = timer;
+        slots[timer] = level * 256 + slot;
+    }
+
+    private void unlink(int timer) {
+        int level = slots[timer] / 256, slot = slots[timer] % 256;
+        if (previous[timer] >= 0) next[previous[timer]] = next[timer];
+        else slotHeads[level][slot] = next[timer];
+        if (next[timer] >= 0) previous[next[timer]] = previous[timer];
+    }
+
+    private int allocate() {
+        if (freeHead >= 0) {
+            int timer = freeHead;
+            freeHead = next[timer];
+            return timer;
+        }
+        if (highWater == deadlines.length) resize(Math.max(16, (int)(highWater * 1.75f)));
+        return highWater++;
+    }
+
+    private void release(int timer) {
+        slots[timer] = FREE;
+        targets[timer] = null;
+        next[timer] = freeHead;
+        freeHead = timer;
+    }
+
+    private void resize(int capacity) {
+        deadlines = Arrays.copyOf(deadlines, capacity);
+        kinds = Arrays.copyOf(kinds, capacity);
+        targets = Arrays.copyOf(targets, capacity);
+        next = Arrays.copyOf(next, capacity);
+        previous = Arrays.copyOf(previous, capacity);
+        slots = Arrays.copyOf(slots, capacity);
+        cancelled = Arrays.copyOf(cancelled, capacity);
+    }
+}
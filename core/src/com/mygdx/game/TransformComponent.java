@@ -0,0 +1,41 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
+
+//position & dimension, plus the position at the start of the current tick for interpolation
+class TransformComponent implements Component, Pool.Poolable {
+
+    final Rectangle boundingBox = new Rectangle();
+    float previousX, previousY;
+
+    void set(float xCentre, float yCentre, float width, float height) {
+        boundingBox.set(xCentre - width/2, yCentre - height/2, width, height);
+        savePreviousPosition();
+    }
+
+    void savePreviousPosition() {
+        previousX = boundingBox.x;
+        previousY = boundingBox.y;
+    }
+
+    void translate(float xChange, float yChange) {
+        boundingBox.setPosition(boundingBox.x+xChange, boundingBox.y+yChange);
+    }
+
+    //alpha is how far the frame is between the previous and the current tick
+    float interpolatedX(float alpha) {
+        return previousX + (boundingBox.x - previousX) * alpha;
+    }
+
+    float interpolatedY(float alpha) {
+        return previousY + (boundingBox.y - previousY) * alpha;
+    }
+
+    @Override
+    public void reset() {
+        boundingBox.set(0, 0, 0, 0);
+        previousX = previousY = 0;
+    }
+}
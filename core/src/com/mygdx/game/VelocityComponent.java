@@ -0,0 +1,32 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.Pool;
+
+//movement speed and heading; ships with a direction timer wander
+class VelocityComponent implements Component, Pool.Poolable {
+
+    float movementSpeed; //world units per second
+    final Vector2 direction = new Vector2(0, -1);
+
+    float directionChangeFrequency = 0;
+    int directionTimer = -1;
+    //per ship, so ships can be updated on any thread and still turn the same way
+    final RandomXS128 random = new RandomXS128();
+
+    void randomizeDirection() {
+        double bearing = random.nextDouble()*6.283185; //0 to 2*Pi
+        direction.x = (float)Math.sin(bearing);
+        direction.y = (float)Math.cos(bearing);
+    }
+
+    @Override
+    public void reset() {
+        movementSpeed = 0;
+        direction.set(0, -1);
+        directionChangeFrequency = 0;
+        directionTimer = -1;
+    }
+}
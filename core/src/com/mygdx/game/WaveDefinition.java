@@ -0,0 +1,14 @@
+package com.mygdx.game;
+
+//one wave from waves.json: count ships of one type, placed in a formation, spawnInterval seconds apart
+class WaveDefinition {
+
+    //formations, see EnemySpawnSystem.spawn
+    static final String RANDOM = "random", LINE = "line", COLUMN = "column", VEE = "vee";
+
+    String ship = "fighter";
+    int count = 1;
+    String formation = RANDOM;
+    float spawnInterval = 0; //0 spawns the whole wave on one tick
+    float pause = 3; //seconds after the last ship before the next wave
+}
@@ -0,0 +1,78 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.SerializationException;
+
+//the ship types and waves the spawner works through, read from assets/waves.json
+class WaveSchedule {
+
+    static final String FILE_NAME = "waves.json";
+
+    ObjectMap<String, ShipStats> ships = new ObjectMap<>();
+    Array<WaveDefinition> waves = new Array<>();
+    float startDelay = 3;
+    boolean repeat = true;
+    String stressShip = "fighter"; //the type StressTest ramps up
+
+    static WaveSchedule load(FileHandle file) {
+        WaveSchedule schedule;
+        try {
+            schedule = new Json().fromJson(WaveSchedule.class, file);
+        } catch (SerializationException e) {
+            throw new GdxRuntimeException("could not read " + file, e);
+        }
+        schedule.validate(file.name());
+        return schedule;
+    }
+
+    //the original behaviour, one fighter every three seconds, for when there is no waves.json
+    static WaveSchedule classic() {
+        WaveSchedule schedule = new WaveSchedule();
+        schedule.ships.put("fighter", new ShipStats());
+        WaveDefinition wave = new WaveDefinition();
+        schedule.waves.add(wave);
+        return schedule;
+    }
+
+    //the ship types only, nothing spawns on its own
+    static WaveSchedule none(WaveSchedule types) {
+        WaveSchedule schedule = new WaveSchedule();
+        schedule.ships.putAll(types.ships);
+        schedule.stressShip = types.stressShip;
+        schedule.repeat = false;
+        return schedule;
+    }
+
+    ShipStats getShip(String name) {
+        ShipStats stats = ships.get(name);
+        if (stats == null) throw new GdxRuntimeException("unknown ship type: " + name);
+        return stats;
+    }
+
+    private void validate(String source) {
+        for (int i = 0; i < waves.size; i++) {
+            WaveDefinition wave = waves.get(i);
+            String where = source + ", wave " + i + ": ";
+            if (!ships.containsKey(wave.ship)) {
+                throw new GdxRuntimeException(where + "unknown ship type " + wave.ship);
+            }
+            if (wave.count < 1) {
+                throw new GdxRuntimeException(where + "count must be at least 1");
+            }
+            if (!WaveDefinition.RANDOM.equals(wave.formation) && !WaveDefinition.LINE.equals(wave.formation)
+                    && !WaveDefinition.COLUMN.equals(wave.formation) && !WaveDefinition.VEE.equals(wave.formation)) {
+                throw new GdxRuntimeException(where + "unknown formation " + wave.formation);
+            }
+            if (wave.spawnInterval < 0 || wave.pause < 0) {
+                throw new GdxRuntimeException(where + "spawnInterval and pause must not be negative");
+            }
+        }
+        if (!ships.containsKey(stressShip)) {
+            throw new GdxRuntimeException(source + ": unknown stress ship type " + stressShip);
+        }
+    }
+}
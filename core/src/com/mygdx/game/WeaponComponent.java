@@ -0,0 +1,23 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.utils.Pool;
+
+//twin lasers fired into a LaserStore; muzzles are fractions of the ship width, offset from its bottom edge
+class WeaponComponent implements Component, Pool.Poolable {
+
+    float laserWidth, laserHeight;
+    float laserMovementSpeed;
+    float timeBetweenShots;
+    int shotTimer = -1;
+
+    float leftMuzzleX, rightMuzzleX;
+    float muzzleOffsetY;
+    LaserStore lasers;
+
+    @Override
+    public void reset() {
+        shotTimer = -1;
+        lasers = null;
+    }
+}
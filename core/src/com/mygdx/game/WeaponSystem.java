@@ -0,0 +1,43 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.gdx.math.Rectangle;
+
+//fires when a ship's FIRE timer is due and schedules the next shot; the lasers go straight into the store,
+//nothing is allocated per shot
+class WeaponSystem extends EntitySystem implements TimerWheel.Listener {
+
+    private final GameWorld world;
+
+    WeaponSystem(GameWorld world) {
+        this.world = world;
+        setProcessing(false);
+    }
+
+    void scheduleShot(Entity entity, float delay) {
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        world.timerSystem.cancel(weapon.shotTimer);
+        weapon.shotTimer = world.timerSystem.schedule(TimerSystem.ticks(delay), TimerSystem.FIRE, entity);
+    }
+
+    @Override
+    public void onTimer(int kind, Object target) {
+        Entity entity = (Entity)target;
+        WeaponComponent weapon = Mappers.weapon.get(entity);
+        weapon.shotTimer = world.timerSystem.schedule(TimerSystem.ticks(weapon.timeBetweenShots), TimerSystem.FIRE, entity);
+        //over the cap the shot is skipped, not delayed, so the rhythm of the ship stays the same
+        if (world.enemyLaserCap > 0 && weapon.lasers == world.enemyLaserList
+                && weapon.lasers.size + 2 > world.enemyLaserCap) {
+            return;
+        }
+
+        Rectangle boundingBox = Mappers.transform.get(entity).boundingBox;
+        weapon.lasers.add(boundingBox.x+boundingBox.width*weapon.leftMuzzleX,
+                boundingBox.y+weapon.muzzleOffsetY,
+                weapon.laserWidth, weapon.laserHeight, weapon.laserMovementSpeed);
+        weapon.lasers.add(boundingBox.x+boundingBox.width*weapon.rightMuzzleX,
+                boundingBox.y+weapon.muzzleOffsetY,
+                weapon.laserWidth, weapon.laserHeight, weapon.laserMovementSpeed);
+    }
+}
@@ -0,0 +1,283 @@
+package com.mygdx.game;
+
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+//the whole simulation state of a GameWorld as bytes, written field by field in one pass: ships, explosions,
+//both laser stores, the spawner and the timer wheel. Reading restores in place: entities that are still there
+//are overwritten, missing ones created and surplus ones removed, so every family keeps its order and the world
+//goes on exactly as it would have from the saved tick. Sparks are cosmetic and start over empty
+class WorldSerializer {
+
+    static final int MAGIC = 0x53535753; //"SSWS"
+    static final short VERSION = 1;
+    static final int INITIAL_BYTES = 16 * 1024;
+    private static final int LENGTH_POSITION = 4 + 2;
+    private static final int HEADER_BYTES = LENGTH_POSITION + 4 + 8 + 4 + 4;
+
+    //stands in for the real stats while an entity is created, every field is overwritten from the state
+    private static final ShipStats ANY_STATS = new ShipStats();
+
+    //scratch
+    private int[] timerTargets = new int[256]; //by timer handle, the index its entity is written at
+    private Object[] targets = new Object[256];
+    private final Rectangle box = new Rectangle();
+
+    //a buffer in the byte order both sides use
+    static ByteBuffer allocate(int bytes) {
+        return ByteBuffer.allocateDirect(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    //the state from position 0 to the limit of out, or of a bigger buffer if out (or null) was too small
+    ByteBuffer write(GameWorld world, ByteBuffer out) {
+        if (out == null) out = allocate(INITIAL_BYTES);
+        while (true) {
+            out.clear();
+            try {
+                writeWorld(world, out);
+                break;
+            } catch (BufferOverflowException e) {
+                out = allocate(out.capacity() * 2);
+            }
+        }
+        out.flip();
+        return out;
+    }
+
+    //in must hold a state written by write, it is read from position 0 and can be read again
+    void read(ByteBuffer in, GameWorld world) {
+        //everything that can be wrong with the state is found before the world is touched
+        in.rewind();
+        if (in.remaining() < HEADER_BYTES || in.getInt() != MAGIC) {
+            throw new GdxRuntimeException("not a world state");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("world state is version " + version + ", expected " + VERSION);
+        }
+        int length = in.getInt();
+        if (length != in.limit()) {
+            throw new GdxRuntimeException("world state of " + in.limit() + " bytes, expected " + length);
+        }
+        long tickCount = in.getLong();
+        int score = in.getInt();
+        int nextNetworkId = in.getInt();
+        world.enemySpawnSystem.read(in);
+
+        int index = 0;
+        int count = resize(world, world.playerShips, in.getInt());
+        for (int i = 0; i < count; i++) {
+            Entity ship = world.playerShips.get(i);
+            readShip(in, ship);
+            Mappers.player.get(ship).lives = in.getInt();
+            target(index++, ship);
+        }
+        if (count > 0) world.playerShip = world.playerShips.get(0);
+        count = resize(world, world.enemyShips, in.getInt());
+        for (int i = 0; i < count; i++) {
+            Entity ship = world.enemyShips.get(i);
+            readShip(in, ship);
+            target(index++, ship);
+        }
+        count = resize(world, world.explosions, in.getInt());
+        for (int i = 0; i < count; i++) {
+            Entity explosion = world.explosions.get(i);
+            readExplosion(in, explosion);
+            target(index++, explosion);
+        }
+
+        world.playerLaserList.read(in);
+        world.enemyLaserList.read(in);
+        //last, the entities created above scheduled timers of their own that this replaces
+        world.timerSystem.read(in, targets);
+
+        world.tickCount = tickCount;
+        world.score = score;
+        world.nextNetworkId = nextNetworkId;
+        world.particleSystem.clear();
+    }
+
+    //the file holds exactly the state, from position 0 to the limit
+    static void save(ByteBuffer state, File file) {
+        FileChannel channel = null;
+        try {
+            channel = new FileOutputStream(file).getChannel();
+            state.rewind();
+            while (state.hasRemaining()) {
+                channel.write(state);
+            }
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not write " + file, e);
+        } finally {
+            close(channel);
+        }
+    }
+
+    //the state in file, in into if it is big enough
+    static ByteBuffer load(File file, ByteBuffer into) {
+        FileChannel channel = null;
+        try {
+            channel = new FileInputStream(file).getChannel();
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) throw new GdxRuntimeException(file + " is not a world state");
+            if (into == null || into.capacity() < size) into = allocate((int)size);
+            into.clear().limit((int)size);
+            while (into.hasRemaining()) {
+                if (channel.read(into) < 0) throw new GdxRuntimeException(file + " ended early");
+            }
+            into.flip();
+            return into;
+        } catch (IOException e) {
+            throw new GdxRuntimeException("could not read " + file, e);
+        } finally {
+            close(channel);
+        }
+    }
+
+    private void writeWorld(GameWorld world, ByteBuffer out) {
+        out.putInt(MAGIC).putShort(VERSION).putInt(0); //the length, once known
+        out.putLong(world.tickCount).putInt(world.score).putInt(world.nextNetworkId);
+        world.enemySpawnSystem.write(out);
+
+        //timers refer to their entities by the order they are written in, noted down by handle on the way
+        int handleLimit = world.timerSystem.getHandleLimit();
+        if (timerTargets.length < handleLimit) timerTargets = new int[Math.max(handleLimit, timerTargets.length * 2)];
+        Arrays.fill(timerTargets, 0, handleLimit, -1);
+        int index = 0;
+        out.putInt(world.playerShips.size());
+        for (int i = 0; i < world.playerShips.size(); i++) {
+            Entity ship = world.playerShips.get(i);
+            writeShip(out, ship, index++);
+            out.putInt(Mappers.player.get(ship).lives);
+        }
+        out.putInt(world.enemyShips.size());
+        for (int i = 0; i < world.enemyShips.size(); i++) {
+            writeShip(out, world.enemyShips.get(i), index++);
+        }
+        out.putInt(world.explosions.size());
+        for (int i = 0; i < world.explosions.size(); i++) {
+            writeExplosion(out, world.explosions.get(i), index++);
+        }
+
+        world.playerLaserList.write(out);
+        world.enemyLaserList.write(out);
+        world.timerSystem.write(out, timerTargets);
+        out.putInt(LENGTH_POSITION, out.position());
+    }
+
+    private void writeShip(ByteBuffer out, Entity ship, int index) {
+        out.putInt(Mappers.networkId.get(ship).id);
+        writeTransform(out, Mappers.transform.get(ship));
+
+        VelocityComponent velocity = Mappers.velocity.get(ship);
+        out.putFloat(velocity.movementSpeed).putFloat(velocity.direction.x).putFloat(velocity.direction.y)
+                .putFloat(velocity.directionChangeFrequency).putInt(velocity.directionTimer)
+                .putLong(velocity.random.getState(0)).putLong(velocity.random.getState(1));
+        if (velocity.directionTimer >= 0) timerTargets[velocity.directionTimer] = index;
+
+        WeaponComponent weapon = Mappers.weapon.get(ship);
+        out.putFloat(weapon.laserWidth).putFloat(weapon.laserHeight).putFloat(weapon.laserMovementSpeed)
+                .putFloat(weapon.timeBetweenShots).putInt(weapon.shotTimer)
+                .putFloat(weapon.leftMuzzleX).putFloat(weapon.rightMuzzleX).putFloat(weapon.muzzleOffsetY);
+        if (weapon.shotTimer >= 0) timerTargets[weapon.shotTimer] = index;
+
+        out.putInt(Mappers.shield.get(ship).shield);
+    }
+
+    private static void readShip(ByteBuffer in, Entity ship) {
+        Mappers.networkId.get(ship).id = in.getInt();
+        readTransform(in, Mappers.transform.get(ship));
+
+        VelocityComponent velocity = Mappers.velocity.get(ship);
+        velocity.movementSpeed = in.getFloat();
+        velocity.direction.x = in.getFloat();
+        velocity.direction.y = in.getFloat();
+        velocity.directionChangeFrequency = in.getFloat();
+        velocity.directionTimer = in.getInt();
+        long seed0 = in.getLong();
+        velocity.random.setState(seed0, in.getLong());
+
+        WeaponComponent weapon = Mappers.weapon.get(ship);
+        weapon.laserWidth = in.getFloat();
+        weapon.laserHeight = in.getFloat();
+        weapon.laserMovementSpeed = in.getFloat();
+        weapon.timeBetweenShots = in.getFloat();
+        weapon.shotTimer = in.getInt();
+        weapon.leftMuzzleX = in.getFloat();
+        weapon.rightMuzzleX = in.getFloat();
+        weapon.muzzleOffsetY = in.getFloat();
+
+        Mappers.shield.get(ship).shield = in.getInt();
+    }
+
+    private void writeExplosion(ByteBuffer out, Entity explosion, int index) {
+        out.putInt(Mappers.networkId.get(explosion).id);
+        writeTransform(out, Mappers.transform.get(explosion));
+        LifetimeComponent lifetime = Mappers.lifetime.get(explosion);
+        out.putLong(lifetime.startTick).putFloat(lifetime.duration).putInt(lifetime.expiryTimer);
+        if (lifetime.expiryTimer >= 0) timerTargets[lifetime.expiryTimer] = index;
+    }
+
+    private static void readExplosion(ByteBuffer in, Entity explosion) {
+        Mappers.networkId.get(explosion).id = in.getInt();
+        readTransform(in, Mappers.transform.get(explosion));
+        LifetimeComponent lifetime = Mappers.lifetime.get(explosion);
+        lifetime.startTick = in.getLong();
+        lifetime.duration = in.getFloat();
+        lifetime.expiryTimer = in.getInt();
+    }
+
+    private static void writeTransform(ByteBuffer out, TransformComponent transform) {
+        Rectangle boundingBox = transform.boundingBox;
+        out.putFloat(boundingBox.x).putFloat(boundingBox.y).putFloat(boundingBox.width).putFloat(boundingBox.height)
+                .putFloat(transform.previousX).putFloat(transform.previousY);
+    }
+
+    private static void readTransform(ByteBuffer in, TransformComponent transform) {
+        transform.boundingBox.set(in.getFloat(), in.getFloat(), in.getFloat(), in.getFloat());
+        transform.previousX = in.getFloat();
+        transform.previousY = in.getFloat();
+    }
+
+    //removes from the end or creates until the family holds count entities, returns count
+    private int resize(GameWorld world, ImmutableArray<Entity> family, int count) {
+        while (family.size() > count) {
+            world.engine.removeEntity(family.get(family.size() - 1));
+        }
+        while (family.size() < count) {
+            if (family == world.playerShips) world.addPlayerShip(0, null);
+            else if (family == world.enemyShips) world.createEnemyShip(0, 0, ANY_STATS, 0);
+            else world.createExplosion(box, 1);
+        }
+        return count;
+    }
+
+    private void target(int index, Object target) {
+        if (index == targets.length) {
+            Object[] grown = new Object[Math.max(256, (int)(index * 1.75f))];
+            System.arraycopy(targets, 0, grown, 0, index);
+            targets = grown;
+        }
+        targets[index] = target;
+    }
+
+    private static void close(FileChannel channel) {
+        if (channel == null) return;
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
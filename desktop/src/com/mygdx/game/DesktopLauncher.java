@@ -2,15 +2,19 @@ package com.mygdx.game;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import com.mygdx.game.LaunchOptions;
 import com.mygdx.game.Launcher;
 
+// e.g. gradlew desktop:run --args="--stress" for the capacity test, or --args="--replay last-session.replay";
+// --fps 30 --budget 25 for slow machines, --quality 2 pins the quality level instead of adapting it
 // Please note that on macOS your application needs to be started with the -XstartOnFirstThread JVM argument
 public class DesktopLauncher {
 	public static void main (String[] arg) {
+		LaunchOptions options = LaunchOptions.parse(arg);
 		Lwjgl3ApplicationConfiguration config = new Lwjgl3ApplicationConfiguration();
 //		config.setheight = 640;
 //		config.width = 360;
-		config.setForegroundFPS(60);
-		new Lwjgl3Application(new Launcher(), config);
+		config.setForegroundFPS(options.fps);
+		new Lwjgl3Application(new Launcher(options), config);
 	}
 }
@@ -0,0 +1,139 @@
+package com.mygdx.game;
+
+import com.badlogic.gdx.files.FileHandle;
+
+import java.io.File;
+import java.net.InetSocketAddress;
+import java.util.Locale;
+import java.util.concurrent.locks.LockSupport;
+
+//runs the simulation without a window or GPU, as fast as the CPU allows
+//e.g. "72000 42" for 72000 ticks with seed 42, "72000 42 run.replay" to also record them,
+//"--replay run.replay" to time and verify a recording, "--stress 42" for the capacity test,
+//"--loadtest 8 400 20 0.05" for 8 players on the loopback against 400 enemies for 20 s with 5% snapshot loss,
+//or "--server 7777 8" to serve up to 8 players in real time
+public class HeadlessLauncher {
+
+	private static final float STATUS_SECONDS = 10;
+
+	//a 60 Hz frame's worth of simulation
+	private static final int TICKS_PER_FRAME = Math.round(1 / 60f / GameWorld.SIMULATION_TICK);
+
+	public static void main (String[] arg) {
+		if (arg.length > 0 && arg[0].equals("--stress")) {
+			stress(arg.length > 1 ? Long.parseLong(arg[1]) : 0);
+			return;
+		}
+		if (arg.length > 0 && arg[0].equals("--loadtest")) {
+			NetworkLoadTest.run(arg.length > 1 ? Integer.parseInt(arg[1]) : 8,
+					arg.length > 2 ? Integer.parseInt(arg[2]) : 400,
+					arg.length > 3 ? Float.parseFloat(arg[3]) : 20,
+					arg.length > 4 ? Float.parseFloat(arg[4]) : 0, loadWaves());
+			return;
+		}
+		if (arg.length > 0 && arg[0].equals("--server")) {
+			serve(arg.length > 1 ? Integer.parseInt(arg[1]) : 7777, arg.length > 2 ? Integer.parseInt(arg[2]) : 8);
+			return;
+		}
+		if (arg.length > 1 && arg[0].equals("--replay")) {
+			System.exit(replay(new File(arg[1])) ? 0 : 1);
+		}
+		long ticks = arg.length > 0 ? Long.parseLong(arg[0]) : 120 * 60 * 10;
+		long seed = arg.length > 1 ? Long.parseLong(arg[1]) : 0;
+
+		Launcher.random.setSeed(seed);
+		Simulation simulation = new GameWorld(loadWaves());
+		ScriptedInput script = new ScriptedInput();
+		PlayerInput input = new PlayerInput();
+		InputRecorder recorder = arg.length > 2 ? new InputRecorder(new File(arg[2]), seed) : null;
+
+		long start = System.nanoTime();
+		for (long tick = 0; tick < ticks; tick++) {
+			script.apply(tick, input);
+			if (recorder != null) recorder.record(input);
+			simulation.update(GameWorld.SIMULATION_TICK, input);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		if (recorder != null) {
+			recorder.finish(simulation);
+			recorder.dispose();
+		}
+		printResult(simulation, elapsed);
+	}
+
+	//the recorded session as a workload, returns false if it did not end the way it was recorded
+	private static boolean replay(File file) {
+		InputReplay replay = new InputReplay(file);
+		Launcher.random.setSeed(replay.getSeed());
+		Simulation simulation = new GameWorld(loadWaves());
+		PlayerInput input = new PlayerInput();
+
+		long start = System.nanoTime();
+		while (replay.next(input)) {
+			simulation.update(GameWorld.SIMULATION_TICK, input);
+		}
+		long elapsed = System.nanoTime() - start;
+
+		String mismatch = replay.verify(simulation);
+		replay.dispose();
+		printResult(simulation, elapsed);
+		System.out.println(mismatch == null ? "replay reproduced the recorded session" : "replay diverged: " + mismatch);
+		return mismatch == null;
+	}
+
+	private static void printResult(Simulation simulation, long elapsed) {
+		double seconds = elapsed / 1e9;
+		System.out.println(String.format(Locale.ROOT,
+				"%d ticks (%.1f s of game time) in %.3f s: %.0f ticks/s, score %d",
+				simulation.getTickCount(), simulation.getTickCount() * GameWorld.SIMULATION_TICK,
+				seconds, simulation.getTickCount() / seconds, simulation.getScore()));
+	}
+
+	//the frame time here is simulation only, there is nothing to draw
+	private static void stress(long seed) {
+		Launcher.random.setSeed(seed);
+		GameWorld world = new GameWorld(WaveSchedule.none(loadWaves()));
+		StressTest stressTest = new StressTest(world, seed);
+		ScriptedInput script = new ScriptedInput();
+		PlayerInput input = new PlayerInput();
+
+		boolean finished = false;
+		while (!finished) {
+			long start = System.nanoTime();
+			for (int i = 0; i < TICKS_PER_FRAME; i++) {
+				script.apply(world.getTickCount(), input);
+				world.update(GameWorld.SIMULATION_TICK, input);
+			}
+			finished = stressTest.frame(System.nanoTime() - start);
+		}
+		System.out.println(stressTest.report());
+	}
+
+	//ticks at game speed until killed, with a status line every few seconds
+	private static void serve(int port, int maxPlayers) {
+		Launcher.random.setSeed(System.nanoTime());
+		GameWorld world = new GameWorld(loadWaves());
+		NetServer server = new NetServer(world, new InetSocketAddress(port), maxPlayers);
+		System.out.println("serving up to " + maxPlayers + " players on " + server.getLocalAddress());
+
+		long tickNanos = Math.round(GameWorld.SIMULATION_TICK * 1e9);
+		int statusTicks = Math.round(STATUS_SECONDS / GameWorld.SIMULATION_TICK);
+		long start = System.nanoTime();
+		for (long tick = 0; ; tick++) {
+			long wait = start + tick * tickNanos - System.nanoTime();
+			if (wait > 0) LockSupport.parkNanos(wait);
+			server.tick();
+			if (tick % statusTicks == statusTicks - 1) {
+				System.out.println(String.format(Locale.ROOT, "%d clients, score %d, %d enemies, %d rejected packets",
+						server.getClientCount(), world.getScore(), world.enemyShips.size(), server.rejectedPackets));
+			}
+		}
+	}
+
+	//gradle runs this from assets/, like the desktop game
+	private static WaveSchedule loadWaves() {
+		FileHandle file = new FileHandle(WaveSchedule.FILE_NAME);
+		return file.exists() ? WaveSchedule.load(file) : WaveSchedule.classic();
+	}
+}
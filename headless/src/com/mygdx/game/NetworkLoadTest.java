@@ -0,0 +1,109 @@
+package com.mygdx.game;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.Random;
+
+//a NetServer and its clients on the loopback, all in this thread: scripted players against a fixed swarm;
+//reports the server tick cost and bandwidth per client, and checks every decoded snapshot against the server's
+class NetworkLoadTest {
+
+	//long enough for the lasers to fill the screen and for the codec, which only runs 20 times a second, to be compiled
+	private static final float WARM_UP_SECONDS = 30;
+	private static final int UDP_IP_HEADER_BYTES = 28;
+
+	static void run(int players, int enemies, float seconds, float loss, WaveSchedule waves) {
+		Launcher.random.setSeed(0);
+		GameWorld world = new GameWorld(WaveSchedule.none(waves));
+		StressTest.addSwarm(world, StressTest.swarmStats(world), enemies, new Random(0));
+
+		NetServer server = new NetServer(world, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), players);
+		NetClient[] clients = new NetClient[players];
+		ScriptedInput script = new ScriptedInput();
+		PlayerInput input = new PlayerInput();
+		for (int i = 0; i < players; i++) {
+			clients[i] = new NetClient(server.getLocalAddress());
+			clients[i].simulatedLoss = loss;
+		}
+
+		int warmUpTicks = Math.round(WARM_UP_SECONDS / GameWorld.SIMULATION_TICK);
+		int measuredTicks = Math.round(seconds / GameWorld.SIMULATION_TICK);
+		FrameProfiler profiler = new FrameProfiler(measuredTicks);
+		long[] bytesAtStart = new long[players];
+		long snapshotsAtStart = 0;
+		long verified = 0, mismatches = 0, entities = 0, captures = 0;
+		SnapshotCodec fullCodec = new SnapshotCodec();
+		ByteBuffer fullBuffer = ByteBuffer.allocateDirect(NetServer.MAX_DATAGRAM_BYTES);
+		long fullBytes = 0;
+
+		for (int tick = 0; tick < warmUpTicks + measuredTicks; tick++) {
+			if (tick == warmUpTicks) {
+				world.profiler = profiler;
+				for (int i = 0; i < players; i++) bytesAtStart[i] = server.getBytesSent(i);
+				snapshotsAtStart = server.getSnapshotsSent(0);
+			}
+			for (int i = 0; i < players; i++) {
+				//every player somewhere else in the script
+				script.apply(tick + i * 97L, input);
+				clients[i].send(input);
+			}
+
+			profiler.beginFrame();
+			server.tick();
+			profiler.endFrame(world.enemyShips.size(), world.playerLaserList.size, world.enemyLaserList.size,
+					world.explosions.size(), 0, 0);
+
+			for (NetClient client : clients) {
+				if (client.receive() == 0) continue;
+				Snapshot decoded = client.getLatest();
+				Snapshot sent = server.getSnapshot(decoded.sequence);
+				verified++;
+				if (sent == null || !sent.contentEquals(decoded)) mismatches++;
+				if (client == clients[0] && tick >= warmUpTicks) {
+					entities += decoded.getEntityCount();
+					captures++;
+					fullBuffer.clear();
+					fullCodec.encode(sent, null, fullBuffer);
+					fullBytes += NetServer.SNAPSHOT_HEADER_BYTES + fullBuffer.position();
+				}
+			}
+		}
+
+		long snapshots = server.getSnapshotsSent(0) - snapshotsAtStart;
+		long bytes = 0;
+		for (int i = 0; i < players; i++) bytes += server.getBytesSent(i) - bytesAtStart[i];
+		double bytesPerClientSecond = bytes / (double)players / seconds;
+		double wirePerClientSecond = bytesPerClientSecond + UDP_IP_HEADER_BYTES * snapshots / (double)seconds;
+
+		System.out.println(String.format(Locale.ROOT,
+				"%d players of %d connected, %.0f entities per snapshot on average (%d enemies), %.0f s measured, %.0f%% snapshots lost",
+				server.getClientCount(), players, captures == 0 ? 0 : entities / (double)captures, enemies, seconds, loss * 100));
+		System.out.println(String.format(Locale.ROOT,
+				"server tick ms p50 / p95 / p99: %.3f / %.3f / %.3f, network part p50 / p99: %.3f / %.3f",
+				profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 50) / 1e6,
+				profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 95) / 1e6,
+				profiler.counterPercentile(FrameProfiler.FRAME_NANOS, 99) / 1e6,
+				profiler.phasePercentile(FrameProfiler.NETWORK, 50) / 1e6,
+				profiler.phasePercentile(FrameProfiler.NETWORK, 99) / 1e6));
+		System.out.println(String.format(Locale.ROOT,
+				"per client: %.1f KB/s of snapshots (%.1f KB/s with UDP/IP headers), %.0f bytes per snapshot, %.0f as full snapshots",
+				bytesPerClientSecond / 1024, wirePerClientSecond / 1024,
+				snapshots == 0 ? 0 : bytes / (double)players / snapshots,
+				captures == 0 ? 0 : fullBytes / (double)captures));
+		System.out.println(String.format(Locale.ROOT,
+				"%d snapshots decoded and checked, %d mismatches, %d dropped; server: %d rejected packets, %d oversized, %d unsent",
+				verified, mismatches, sumDropped(clients), server.rejectedPackets, server.oversizedSnapshots,
+				server.unsentSnapshots));
+
+		for (NetClient client : clients) client.dispose();
+		server.dispose();
+	}
+
+	private static long sumDropped(NetClient[] clients) {
+		long dropped = 0;
+		for (NetClient client : clients) dropped += client.snapshotsDropped;
+		return dropped;
+	}
+}
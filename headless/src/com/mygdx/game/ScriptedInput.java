@@ -0,0 +1,29 @@
+package com.mygdx.game;
+
+//deterministic stand-in for a player: sweeps left and right, bobs up and down and sometimes drags
+class ScriptedInput {
+
+    private static final int SWEEP_TICKS = 240;
+    private static final int BOB_TICKS = 90;
+    private static final int TOUCH_TICKS = 600;
+
+    public void apply(long tick, PlayerInput input) {
+        input.clear();
+
+        boolean sweepRight = (tick / SWEEP_TICKS) % 2 == 0;
+        input.right = sweepRight;
+        input.left = !sweepRight;
+
+        boolean bobUp = (tick / BOB_TICKS) % 2 == 0;
+        input.up = bobUp;
+        input.down = !bobUp;
+
+        //every few seconds drag towards a point instead of using the keys
+        if ((tick / TOUCH_TICKS) % 3 == 2) {
+            input.left = input.right = input.up = input.down = false;
+            input.touched = true;
+            input.touchX = (float)GameWorld.WORLD_WIDHTH * ((tick / TOUCH_TICKS) % 5) / 4;
+            input.touchY = (float)GameWorld.WORLD_HEIGHT / 4;
+        }
+    }
+}